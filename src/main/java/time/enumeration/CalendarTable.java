@@ -0,0 +1,177 @@
+package time.enumeration;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.temporal.WeekFields;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Precomputed per-year table of the calendar fields used by the matching components.
+ * <p>
+ * Every field the enumeration reads besides year, hour and minute depends only on whether
+ * the year is a leap year, on which day of the week it starts and on the week definition,
+ * so at most 14 distinct tables exist per {@link WeekFields}. They are built lazily on first
+ * use and shared, read-only, by all enumerations. The day of week, week of month and week of
+ * year are stored as localized by the week definition, i.e. day of week 1 is its first day.
+ * Fields are stored as one compact byte row per day of year and are read by array index
+ * instead of being recomputed from {@link LocalDate} for every candidate.
+ */
+final class CalendarTable {
+	private static final int MONTH = 0;
+	private static final int DAY_OF_MONTH = 1;
+	private static final int DAY_OF_WEEK = 2;
+	private static final int WEEKDAY_ORDINAL = 3;
+	private static final int QUARTER = 4;
+	private static final int WEEK_OF_MONTH = 5;
+	private static final int WEEK_OF_YEAR = 6;
+	private static final int STRIDE = 8;
+
+	/* days from 0000-01-01 to 1970-01-01, as used by LocalDate.toEpochDay() */
+	private static final long DAYS_0000_TO_1970 = 719528L;
+
+	/**
+	 * Number of year types: leap year or not, times the day of week of January 1st
+	 */
+	static final int TYPES = 14;
+
+	/* one slot per year type: (leap ? 7 : 0) + ISO day of week of January 1st - 1.
+	 * Publication is racy but benign: tables are immutable and only hold final fields,
+	 * so concurrent builders at worst compute the same table twice. */
+	private static final CalendarTable[] ISO_TABLES = new CalendarTable[TYPES];
+	/* slots of every other week definition, created on first use */
+	private static final ConcurrentMap<WeekFields, CalendarTable[]> TABLES = new ConcurrentHashMap<WeekFields, CalendarTable[]>();
+
+	private final int type;
+	private final WeekFields weekFields;
+	private final int lengthOfYear;
+	private final byte[] fields;
+
+	private CalendarTable(int representativeYear, WeekFields weekFields) {
+		type = typeOf(representativeYear);
+		this.weekFields = weekFields;
+		lengthOfYear = Year.isLeap(representativeYear) ? 366 : 365;
+		fields = new byte[lengthOfYear * STRIDE];
+		LocalDate date = LocalDate.ofYearDay(representativeYear, 1);
+		for (int i = 0; i < lengthOfYear; i++, date = date.plusDays(1)) {
+			int row = i * STRIDE;
+			fields[row + MONTH] = (byte) date.getMonthValue();
+			fields[row + DAY_OF_MONTH] = (byte) date.getDayOfMonth();
+			fields[row + DAY_OF_WEEK] = (byte) date.get(weekFields.dayOfWeek());
+			fields[row + WEEKDAY_ORDINAL] = (byte) (((date.getDayOfMonth() - 1) / 7) + 1);
+			fields[row + QUARTER] = (byte) (((date.getMonthValue() - 1) / 3) + 1);
+			fields[row + WEEK_OF_MONTH] = (byte) date.get(weekFields.weekOfMonth());
+			fields[row + WEEK_OF_YEAR] = (byte) date.get(weekFields.weekOfYear());
+		}
+	}
+
+	/**
+	 * Returns the shared ISO table for the given year, building it on first use.
+	 *
+	 * @param year A proleptic year
+	 * @return The calendar table describing every day of the year
+	 */
+	static CalendarTable of(int year) {
+		return ofType(typeOf(year), WeekFields.ISO);
+	}
+
+	/**
+	 * Returns the shared table for the given year and week definition, building it on first use.
+	 *
+	 * @param year A proleptic year
+	 * @param weekFields The week definition of the week related fields
+	 * @return The calendar table describing every day of the year
+	 */
+	static CalendarTable of(int year, WeekFields weekFields) {
+		return ofType(typeOf(year), weekFields);
+	}
+
+	/**
+	 * Returns the shared table for the given year type and week definition, building it on
+	 * first use.
+	 *
+	 * @param type A year type between 0 and {@link #TYPES} - 1
+	 * @param weekFields The week definition of the week related fields
+	 * @return The calendar table describing every day of years of that type
+	 */
+	static CalendarTable ofType(int type, WeekFields weekFields) {
+		CalendarTable[] tables = ISO_TABLES;
+		if (!weekFields.equals(WeekFields.ISO)) {
+			tables = TABLES.get(weekFields);
+			if (tables == null) {
+				TABLES.putIfAbsent(weekFields, new CalendarTable[TYPES]);
+				tables = TABLES.get(weekFields);
+			}
+		}
+		CalendarTable table = tables[type];
+		if (table == null) {
+			int representativeYear = 2000;
+			while (typeOf(representativeYear) != type) representativeYear ++;
+			table = new CalendarTable(representativeYear, weekFields);
+			tables[type] = table;
+		}
+		return table;
+	}
+
+	private static int typeOf(int year) {
+		return (Year.isLeap(year) ? 7 : 0) + (int) Math.floorMod(firstEpochDay(year) + 3, 7L);
+	}
+
+	/**
+	 * Returns the epoch day of January 1st of the given year without creating a date object.
+	 *
+	 * @param year A proleptic year
+	 * @return The epoch day, with 1970-01-01 as day 0
+	 */
+	static long firstEpochDay(int year) {
+		long y = year;
+		long total = 365 * y;
+		if (y >= 0) {
+			total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+		}
+		else {
+			total -= y / -4 - y / -100 + y / -400;
+		}
+		return total - DAYS_0000_TO_1970;
+	}
+
+	int type() {
+		return type;
+	}
+
+	WeekFields weekFields() {
+		return weekFields;
+	}
+
+	int lengthOfYear() {
+		return lengthOfYear;
+	}
+
+	int month(int dayOfYear) {
+		return fields[(dayOfYear - 1) * STRIDE + MONTH];
+	}
+
+	int dayOfMonth(int dayOfYear) {
+		return fields[(dayOfYear - 1) * STRIDE + DAY_OF_MONTH];
+	}
+
+	int dayOfWeek(int dayOfYear) {
+		return fields[(dayOfYear - 1) * STRIDE + DAY_OF_WEEK];
+	}
+
+	int weekdayOrdinal(int dayOfYear) {
+		return fields[(dayOfYear - 1) * STRIDE + WEEKDAY_ORDINAL];
+	}
+
+	int quarter(int dayOfYear) {
+		return fields[(dayOfYear - 1) * STRIDE + QUARTER];
+	}
+
+	int weekOfMonth(int dayOfYear) {
+		return fields[(dayOfYear - 1) * STRIDE + WEEK_OF_MONTH];
+	}
+
+	int weekOfYear(int dayOfYear) {
+		return fields[(dayOfYear - 1) * STRIDE + WEEK_OF_YEAR];
+	}
+}
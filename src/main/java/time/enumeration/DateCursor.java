@@ -0,0 +1,267 @@
+package time.enumeration;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.Arrays;
+
+/**
+ * Enumerates the matching days of a {@link Schedule}, for patterns that only care about days such
+ * as the second Thursday of each month. The hour and minute levels are skipped entirely: a day
+ * matches if the schedule matches at any time of it, so the hour and minute components are
+ * ignored. Like {@link Enumerator}, matches are strictly after (or before) the given date.
+ * <p>
+ * A weekday alone is stepped 7 days at a time, and a weekday with its ordinal is computed once per
+ * month from the first day of the month. Every other pattern replays the cached matching days of
+ * the schedule for each year type, see {@link Schedule#periodInYears()}.
+ * <p>
+ * For example, list the second Thursday of the next 12 months:
+ * <pre>{@code
+ * EnumMap<MatchingComponent, Integer> matchingComponents = new EnumMap<MatchingComponent, Integer>(MatchingComponent.class);
+ * matchingComponents.put(MatchingComponent.WEEKDAY, 4);
+ * matchingComponents.put(MatchingComponent.WEEKDAY_ORDINAL, 2);
+ * DateCursor cursor = new DateCursor(LocalDate.now(), MatchingDirection.FORWARD, Schedule.of(matchingComponents));
+ * cursor.enumerate(12, (matchedCount, matchedValue) -> System.out.printf("Match#%d: %s\n", matchedCount, matchedValue));
+ * }</pre>
+ */
+public final class DateCursor {
+	/* ways to find the next matching day */
+	private static final int REPLAY = 0;
+	private static final int WEEKLY = 1;
+	private static final int MONTHLY = 2;
+
+	private final Schedule schedule;
+	private final boolean forward;
+	private final int stepping;
+	private final int weekday;
+	private final int weekdayOrdinal;
+
+	private int year;
+	private CalendarTable table;
+	private int dayOfYear;
+	private boolean exhausted;
+
+	/**
+	 * Constructs a cursor positioned at the given date
+	 *
+	 * @param matchingDate A date
+	 * @param matchingDirection A direction of matching enumeration
+	 * @param schedule Compiled matching components
+	 */
+	public DateCursor(LocalDate matchingDate, MatchingDirection matchingDirection, Schedule schedule) {
+		this.schedule = schedule;
+		this.forward = matchingDirection == MatchingDirection.FORWARD;
+		this.weekday = schedule.has(MatchingComponent.WEEKDAY) ? schedule.get(MatchingComponent.WEEKDAY) : 0;
+		this.weekdayOrdinal = weekday > 0 && schedule.has(MatchingComponent.WEEKDAY_ORDINAL)
+				? schedule.get(MatchingComponent.WEEKDAY_ORDINAL) : 0;
+		int dateMask = schedule.mask & ~(bit(MatchingComponent.YEAR) | bit(MatchingComponent.HOUR) | bit(MatchingComponent.MINUTE));
+		if (weekdayOrdinal == 0) dateMask &= ~bit(MatchingComponent.WEEKDAY_ORDINAL);
+		if (dateMask == bit(MatchingComponent.WEEKDAY)) stepping = WEEKLY;
+		else if (dateMask == (bit(MatchingComponent.WEEKDAY) | bit(MatchingComponent.WEEKDAY_ORDINAL))) stepping = MONTHLY;
+		else stepping = REPLAY;
+		seek(matchingDate);
+	}
+
+	private static int bit(MatchingComponent component) {
+		return 1 << component.ordinal();
+	}
+
+	/**
+	 * Repositions the cursor at the given date, as if it was newly constructed there
+	 *
+	 * @param matchingDate A date
+	 */
+	public void seek(LocalDate matchingDate) {
+		year = matchingDate.getYear();
+		dayOfYear = matchingDate.getDayOfYear();
+		exhausted = schedule.analyze().isEmpty();
+		if (schedule.has(MatchingComponent.YEAR)) {
+			int fixedYear = schedule.get(MatchingComponent.YEAR);
+			if (forward ? fixedYear < year : fixedYear > year) {
+				exhausted = true;
+			}
+			else if (fixedYear != year) { // start at the edge of the year next to the fixed year
+				year = forward ? fixedYear - 1 : fixedYear + 1;
+				dayOfYear = forward ? (Year.isLeap(year) ? 366 : 365) : 1;
+			}
+		}
+		table = schedule.table(year);
+	}
+
+	/**
+	 * Check if the cursor has passed its last match
+	 *
+	 * @return True if no more match can be found, otherwise False
+	 */
+	public boolean isExhausted() {
+		return exhausted;
+	}
+
+	/**
+	 * Moves to the next match
+	 *
+	 * @return The next matched date, or {@code null} if no more match is found
+	 */
+	public LocalDate next() {
+		if (!advance()) return null;
+		return LocalDate.ofYearDay(year, dayOfYear);
+	}
+
+	/**
+	 * Fills an array with the next matches as epoch days, with 1970-01-01 as day 0
+	 *
+	 * @param dst The target array
+	 * @param offset The first index to write
+	 * @param length Maximum number of matches to write
+	 * @return Number of matches written, less than {@code length} only if no more match is found
+	 */
+	public int next(long[] dst, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > dst.length) throw new IndexOutOfBoundsException();
+		int count = 0;
+		while (count < length && advance()) {
+			dst[offset + count] = epochDay();
+			count ++;
+		}
+		return count;
+	}
+
+	/**
+	 * Enumerates the next matches
+	 *
+	 * @param maxNumOfMatches Maximum number of matching dates
+	 * @param dateMatchingCallback A code block to trigger with each matched date
+	 * @return Number of matches
+	 */
+	public int enumerate(int maxNumOfMatches, DateMatchingCallback dateMatchingCallback) {
+		int countOfMatches = 0;
+		while (countOfMatches < maxNumOfMatches && advance()) {
+			countOfMatches ++;
+			if (dateMatchingCallback != null) {
+				dateMatchingCallback.onMatched(countOfMatches, LocalDate.ofYearDay(year, dayOfYear));
+			}
+		}
+		return countOfMatches;
+	}
+
+	long epochDay() {
+		return CalendarTable.firstEpochDay(year) + dayOfYear - 1;
+	}
+
+	/* moves to the next matching day, returns false once exhausted */
+	boolean advance() {
+		if (exhausted) return false;
+		switch (stepping) {
+		case WEEKLY: return forward ? nextWeekday() : previousWeekday();
+		case MONTHLY: return forward ? nextWeekdayInMonth() : previousWeekdayInMonth();
+		default: return forward ? nextDay() : previousDay();
+		}
+	}
+
+	/* moves to the adjacent year, or exhausts the cursor past the fixed year or the supported years */
+	private boolean moveYear(int step) {
+		int nextYear = year + step;
+		if (nextYear > Year.MAX_VALUE || nextYear < Year.MIN_VALUE
+				|| (schedule.has(MatchingComponent.YEAR) && schedule.get(MatchingComponent.YEAR) != nextYear)) {
+			exhausted = true;
+			return false;
+		}
+		year = nextYear;
+		table = schedule.table(year);
+		return true;
+	}
+
+	private boolean inYear() {
+		return !schedule.has(MatchingComponent.YEAR) || schedule.get(MatchingComponent.YEAR) == year;
+	}
+
+	private boolean nextDay() {
+		short[] days = schedule.matchingDays(table);
+		int index = Arrays.binarySearch(days, (short) dayOfYear);
+		index = index >= 0 ? index + 1 : -index - 1;
+		while (index >= days.length || !inYear()) { // years without match are skipped without looking at their days
+			if (!moveYear(1)) return false;
+			days = schedule.matchingDays(table);
+			index = 0;
+		}
+		dayOfYear = days[index];
+		return true;
+	}
+
+	private boolean previousDay() {
+		short[] days = schedule.matchingDays(table);
+		int index = Arrays.binarySearch(days, (short) dayOfYear);
+		index = index >= 0 ? index - 1 : -index - 2;
+		while (index < 0 || !inYear()) {
+			if (!moveYear(-1)) return false;
+			days = schedule.matchingDays(table);
+			index = days.length - 1;
+		}
+		dayOfYear = days[index];
+		return true;
+	}
+
+	private boolean nextWeekday() {
+		int lengthOfYear = table.lengthOfYear();
+		dayOfYear += Math.floorMod(weekday - table.dayOfWeek(dayOfYear) - 1, 7) + 1;
+		if (dayOfYear > lengthOfYear) {
+			if (!moveYear(1)) return false;
+			dayOfYear -= lengthOfYear;
+		}
+		return true;
+	}
+
+	private boolean previousWeekday() {
+		dayOfYear -= Math.floorMod(table.dayOfWeek(dayOfYear) - weekday - 1, 7) + 1;
+		if (dayOfYear < 1) {
+			if (!moveYear(-1)) return false;
+			dayOfYear += table.lengthOfYear();
+		}
+		return true;
+	}
+
+	/* day of month of the ordinal weekday in the month starting at the given day of year */
+	private int weekdayInMonth(int firstDayOfMonth) {
+		return 1 + Math.floorMod(weekday - table.dayOfWeek(firstDayOfMonth), 7) + 7 * (weekdayOrdinal - 1);
+	}
+
+	private int lengthOfMonth(int firstDayOfMonth) {
+		return Month.of(table.month(firstDayOfMonth)).length(table.lengthOfYear() == 366);
+	}
+
+	private boolean nextWeekdayInMonth() {
+		int dayOfMonth = table.dayOfMonth(dayOfYear);
+		int firstDayOfMonth = dayOfYear - dayOfMonth + 1;
+		while (true) {
+			int lengthOfMonth = lengthOfMonth(firstDayOfMonth);
+			int target = weekdayInMonth(firstDayOfMonth);
+			if (target > dayOfMonth && target <= lengthOfMonth) {
+				dayOfYear = firstDayOfMonth + target - 1;
+				return true;
+			}
+			dayOfMonth = 0;
+			firstDayOfMonth += lengthOfMonth;
+			if (firstDayOfMonth > table.lengthOfYear()) {
+				if (!moveYear(1)) return false;
+				firstDayOfMonth = 1;
+			}
+		}
+	}
+
+	private boolean previousWeekdayInMonth() {
+		int dayOfMonth = table.dayOfMonth(dayOfYear);
+		int firstDayOfMonth = dayOfYear - dayOfMonth + 1;
+		while (true) {
+			int target = weekdayInMonth(firstDayOfMonth);
+			if (target < dayOfMonth && target <= lengthOfMonth(firstDayOfMonth)) {
+				dayOfYear = firstDayOfMonth + target - 1;
+				return true;
+			}
+			dayOfMonth = Integer.MAX_VALUE;
+			if (firstDayOfMonth == 1) {
+				if (!moveYear(-1)) return false;
+				firstDayOfMonth = table.lengthOfYear() + 1;
+			}
+			firstDayOfMonth -= table.dayOfMonth(firstDayOfMonth - 1); // first day of the previous month
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package time.enumeration;
+
+import java.time.LocalDate;
+
+/**
+ * Functional interface for defining code block to be invoked for each matching day.
+ * <p>
+ * For example, to define a callback code block to print the date with its matching count:
+ * <pre>{@code
+ * DateMatchingCallback dateMatchingCallback = (matchedCount, matchedValue) -> {
+ *	System.out.printf("Match#%d: %s\n", matchedCount, DateTimeFormatter.ofPattern("dd.MM.yyyy").format(matchedValue));
+ * };
+ * }</pre>
+ */
+@FunctionalInterface
+public interface DateMatchingCallback {
+	/**
+	 * Callback function to be invoked for matching day
+	 *
+	 * @param matchedCount The 1-based counting number of current match calculates from the beginning of the enumeration
+	 * @param matchedValue Current matched date
+	 */
+	void onMatched(int matchedCount, LocalDate matchedValue);
+}
@@ -3,11 +3,11 @@
  */
 package time.enumeration;
 
+import java.time.DateTimeException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.temporal.IsoFields;
 import java.time.temporal.TemporalAdjusters;
 import java.time.temporal.WeekFields;
 import java.util.EnumMap;
@@ -56,17 +56,12 @@ public class Enumerator {
 	
 	LocalDateTime matchingDateTime;
 	int countOfMatches;
+	boolean resumed;
 	
-	Integer year;
-	Integer month;
-	Integer day;
-	Integer hour;
-	Integer minute;
-	Integer weekday;
-	Integer weekdayOrdinal;
-	Integer quarter;
-	Integer weekOfMonth;
-	Integer weekOfYear;
+	DayOfWeek dayOfWeek;
+	Schedule schedule;
+	
+	EnumeratorMetrics metrics;
 
 	/**
 	 * Constructs a Enumerator object with a date object, direction of enumeration,
@@ -78,11 +73,57 @@ public class Enumerator {
 	 * @param matchingComponents Matching components
 	 * @param maxNumOfMatches Maximum number of matching dates
 	 * @param matchingCallback A code block to trigger with each calculated date
+	 * @throws java.time.DateTimeException if a matching component is out of its {@link MatchingComponent#range() range}
+	 */
+	public Enumerator(
+			LocalDateTime matchingDateTime,
+			MatchingDirection matchingDirection,
+			EnumMap<MatchingComponent, Integer> matchingComponents,
+			int maxNumOfMatches,
+			MatchingCallback matchingCallback) {
+		this(matchingDateTime, matchingDirection, Schedule.of(matchingComponents), maxNumOfMatches, matchingCallback);
+	}
+	
+	/**
+	 * Constructs a Enumerator object with a date object, direction of enumeration,
+	 * matching components, the week definition of {@code weekday, weekOfMonth, weekOfYear},
+	 * maximum number of matches, and a code block to be triggered for each match.
+	 * For example, {@code WeekFields.of(DayOfWeek.SUNDAY, 1)} matches US weeks, where
+	 * {@code weekday} 1 is Sunday.
+	 * 
+	 * @param matchingDateTime A date object
+	 * @param matchingDirection A direction of matching enumeration
+	 * @param matchingComponents Matching components
+	 * @param weekFields The week definition of the week related matching components
+	 * @param maxNumOfMatches Maximum number of matching dates
+	 * @param matchingCallback A code block to trigger with each calculated date
+	 * @throws java.time.DateTimeException if a matching component is out of its {@link MatchingComponent#range() range}
 	 */
 	public Enumerator(
 			LocalDateTime matchingDateTime,
 			MatchingDirection matchingDirection,
 			EnumMap<MatchingComponent, Integer> matchingComponents,
+			WeekFields weekFields,
+			int maxNumOfMatches,
+			MatchingCallback matchingCallback) {
+		this(matchingDateTime, matchingDirection, Schedule.of(matchingComponents, weekFields), maxNumOfMatches, matchingCallback);
+	}
+	
+	/**
+	 * Constructs a Enumerator object with a date object, direction of enumeration,
+	 * compiled matching components, maximum number of matches, and a code block to be
+	 * triggered for each match.
+	 * 
+	 * @param matchingDateTime A date object
+	 * @param matchingDirection A direction of matching enumeration
+	 * @param schedule Compiled matching components
+	 * @param maxNumOfMatches Maximum number of matching dates
+	 * @param matchingCallback A code block to trigger with each calculated date
+	 */
+	public Enumerator(
+			LocalDateTime matchingDateTime,
+			MatchingDirection matchingDirection,
+			Schedule schedule,
 			int maxNumOfMatches,
 			MatchingCallback matchingCallback) {
 		
@@ -90,43 +131,70 @@ public class Enumerator {
 		this.matchingDirection = matchingDirection;
 		this.maxNumOfMatches = maxNumOfMatches;
 		this.matchingCallback = matchingCallback;
+		this.schedule = schedule;
 		
-		year = matchingComponents.get(MatchingComponent.YEAR);
-		month = matchingComponents.get(MatchingComponent.MONTH);
-		day = matchingComponents.get(MatchingComponent.DAY);
-		hour = matchingComponents.get(MatchingComponent.HOUR);
-		minute = matchingComponents.get(MatchingComponent.MINUTE);
-		weekday = matchingComponents.get(MatchingComponent.WEEKDAY);
-		weekdayOrdinal = matchingComponents.get(MatchingComponent.WEEKDAY_ORDINAL);
-		quarter = matchingComponents.get(MatchingComponent.QUARTER);
-		weekOfMonth = matchingComponents.get(MatchingComponent.WEEK_OF_MONTH);
-		weekOfYear = matchingComponents.get(MatchingComponent.WEEK_OF_YEAR);
+		/* weekday 1 is the first day of the week of the schedule */
+		dayOfWeek = schedule.has(MatchingComponent.WEEKDAY)
+				? schedule.getWeekFields().getFirstDayOfWeek().plus(schedule.get(MatchingComponent.WEEKDAY) - 1)
+				: null;
 		
-		matchFirst();
+		try {
+			matchFirst();
+		}
+		catch (DateTimeException e) {
+			if (!schedule.analyze().isEmpty()) throw e;
+			matchingDateTime = null; // contradicting components such as February 30th, see PatternAnalysis
+		}
+	}
+	
+	/**
+	 * Attaches metrics to collect hot path counters of this enumerator, or detaches them with
+	 * {@code null}. Metrics are disabled by default and cost nothing until attached. The same
+	 * metrics object can be shared by many enumerators, also across threads.
+	 * 
+	 * @param metrics Metrics to update, or {@code null} to disable collection
+	 */
+	public void setMetrics(EnumeratorMetrics metrics) {
+		this.metrics = metrics;
+	}
+	
+	/* value of the given matching component, or the given default if it is not specified */
+	private int valueOr(MatchingComponent component, int otherwise) {
+		return schedule.has(component) ? schedule.get(component) : otherwise;
 	}
 	
-	private static int getOrdinalOfWeek(LocalDateTime dt) {
-		/* determine the sequential ordinal number of a weekday.
-		 * i.e. if a Friday is the first or 3rd Friday of a month.
-		 * take the day of month, subtract 1, divide by 7, then add 1.
-		 * The first seven days of the month are always the first (Tuesday,
-		 * Wednesday, ...) whatever day of the week the actual 1st of the month is.
+	private LocalDateTime locateWeekOfYear(LocalDateTime dt) {
+		/* move to the first day of the week of year of the schedule in the same year, keeping the time.
+		 * Equivalent to with(weekOfYear(), week).with(dayOfWeek(), 1) of the week definition
+		 * of the schedule but read from the shared calendar table instead of the generic
+		 * temporal field computation.
 		 * */
-	    return ((dt.getDayOfMonth() - 1) / 7) + 1;
+		CalendarTable table = schedule.table(dt.getYear());
+		int dayOfYear = dt.getDayOfYear();
+		if (metrics != null) metrics.tableHits(2);
+		return dt.plusDays((schedule.get(MatchingComponent.WEEK_OF_YEAR) - table.weekOfYear(dayOfYear)) * 7 + 1 - table.dayOfWeek(dayOfYear));
+	}
+	
+	private LocalDateTime locateWeekOfMonth(LocalDateTime dt) {
+		/* move to the first day of the week of month of the schedule in the same month, keeping the time. */
+		CalendarTable table = schedule.table(dt.getYear());
+		int dayOfYear = dt.getDayOfYear();
+		if (metrics != null) metrics.tableHits(2);
+		return dt.plusDays((schedule.get(MatchingComponent.WEEK_OF_MONTH) - table.weekOfMonth(dayOfYear)) * 7 + 1 - table.dayOfWeek(dayOfYear));
 	}
 	
 	private void matchFirst() {
 		matchingDateTime = originDateTime
-				.withYear(year != null ? year : originDateTime.getYear())
-				.withMonth(month != null ? month : originDateTime.getMonthValue())
-				.withDayOfMonth(day != null ? day : originDateTime.getDayOfMonth())
-				.withHour(hour != null? hour : originDateTime.getHour())
-				.withMinute(minute != null ? minute : originDateTime.getMinute());
+				.withYear(valueOr(MatchingComponent.YEAR, originDateTime.getYear()))
+				.withMonth(valueOr(MatchingComponent.MONTH, originDateTime.getMonthValue()))
+				.withDayOfMonth(valueOr(MatchingComponent.DAY, originDateTime.getDayOfMonth()))
+				.withHour(valueOr(MatchingComponent.HOUR, originDateTime.getHour()))
+				.withMinute(valueOr(MatchingComponent.MINUTE, originDateTime.getMinute()));
 		
-		if (quarter != null) {
+		if (schedule.has(MatchingComponent.QUARTER)) {
 			LocalDateTime newDateTime = LocalDateTime
 					.of(LocalDate.of(matchingDateTime.getYear(), 1, 1), LocalTime.of(0, 0))
-					.plusMonths(3 * (quarter - 1));
+					.plusMonths(3 * (schedule.get(MatchingComponent.QUARTER) - 1));
 			if (matchingDirection == MatchingDirection.FORWARD) {
 				while(!newDateTime.isAfter(originDateTime)) {
 					newDateTime = newDateTime.plusDays(1);
@@ -138,14 +206,12 @@ public class Enumerator {
 				}
 			}
 			matchingDateTime = newDateTime
-					.withHour(hour != null? hour : 0)
-					.withMinute(minute != null ? minute : 0);
+					.withHour(valueOr(MatchingComponent.HOUR, 0))
+					.withMinute(valueOr(MatchingComponent.MINUTE, 0));
 		}
 		
-		if (weekOfYear != null) {
-			LocalDateTime newDateTime = matchingDateTime
-					.with(WeekFields.ISO.weekOfYear(), weekOfYear) // locate week of year
-					.with(WeekFields.ISO.dayOfWeek(), 1); // locate first day of week
+		if (schedule.has(MatchingComponent.WEEK_OF_YEAR)) {
+			LocalDateTime newDateTime = locateWeekOfYear(matchingDateTime); // locate first day of week of year
 			if (matchingDirection == MatchingDirection.FORWARD) {
 				while(!newDateTime.isAfter(originDateTime)) {
 					newDateTime = newDateTime.plusDays(1);
@@ -157,13 +223,11 @@ public class Enumerator {
 				}
 			}
 			matchingDateTime = newDateTime
-					.withHour(hour != null? hour : 0)
-					.withMinute(minute != null ? minute : 0);
+					.withHour(valueOr(MatchingComponent.HOUR, 0))
+					.withMinute(valueOr(MatchingComponent.MINUTE, 0));
 		}
-		else if (weekOfMonth != null) {
-			LocalDateTime newDateTime = matchingDateTime
-					.with(WeekFields.ISO.weekOfMonth(), weekOfMonth) // locate week of month
-					.with(WeekFields.ISO.dayOfWeek(), 1); // locate first day of week
+		else if (schedule.has(MatchingComponent.WEEK_OF_MONTH)) {
+			LocalDateTime newDateTime = locateWeekOfMonth(matchingDateTime); // locate first day of week of month
 			if (matchingDirection == MatchingDirection.FORWARD) {
 				while(!newDateTime.isAfter(originDateTime)) {
 					newDateTime = newDateTime.plusDays(1);
@@ -175,56 +239,59 @@ public class Enumerator {
 				}
 			}
 			matchingDateTime = newDateTime
-					.withHour(hour != null? hour : 0)
-					.withMinute(minute != null ? minute : 0);
+					.withHour(valueOr(MatchingComponent.HOUR, 0))
+					.withMinute(valueOr(MatchingComponent.MINUTE, 0));
 		} 
 		
-		if (weekday != null) {
-			if (weekdayOrdinal != null) {
+		if (schedule.has(MatchingComponent.WEEKDAY)) {
+			if (schedule.has(MatchingComponent.WEEKDAY_ORDINAL)) {
 				LocalDateTime newDateTime = matchingDateTime
-						.with(TemporalAdjusters.dayOfWeekInMonth(weekdayOrdinal, DayOfWeek.of(weekday)));
+						.with(TemporalAdjusters.dayOfWeekInMonth(schedule.get(MatchingComponent.WEEKDAY_ORDINAL), dayOfWeek));
 				if (matchingDirection == MatchingDirection.FORWARD) {
 					while(!newDateTime.isAfter(originDateTime)) {
 						newDateTime = newDateTime
 								.plusMonths(1)
-								.with(TemporalAdjusters.dayOfWeekInMonth(weekdayOrdinal, DayOfWeek.of(weekday)));
+								.with(TemporalAdjusters.dayOfWeekInMonth(schedule.get(MatchingComponent.WEEKDAY_ORDINAL), dayOfWeek));
 					}
 				}
 				else {
+					/* step back from the month itself: a missing 5th weekday rolls into the next
+					 * month, and stepping back from there would find the same day forever */
+					LocalDateTime month = matchingDateTime;
 					while(!newDateTime.isBefore(originDateTime)) {
-						newDateTime = newDateTime
-								.plusMonths(-1)
-								.with(TemporalAdjusters.dayOfWeekInMonth(weekdayOrdinal, DayOfWeek.of(weekday)));
+						month = month.plusMonths(-1);
+						newDateTime = month
+								.with(TemporalAdjusters.dayOfWeekInMonth(schedule.get(MatchingComponent.WEEKDAY_ORDINAL), dayOfWeek));
 					}
 				}
 				matchingDateTime = newDateTime;
-			} // end of if (weekdayOrdinal != null) {
+			} // end of if (schedule.has(MatchingComponent.WEEKDAY_ORDINAL)) {
 			else {
 				if (matchingDirection == MatchingDirection.FORWARD) {
 					if (matchingDateTime.isAfter(originDateTime)) {
 						matchingDateTime = matchingDateTime
-								.with(TemporalAdjusters.nextOrSame(DayOfWeek.of(weekday)));
+								.with(TemporalAdjusters.nextOrSame(dayOfWeek));
 					}
 					else {
 						matchingDateTime = matchingDateTime
-								.with(TemporalAdjusters.next(DayOfWeek.of(weekday)));
+								.with(TemporalAdjusters.next(dayOfWeek));
 					}
 				}
 				else {
 					if (matchingDateTime.isBefore(originDateTime)) {
 						matchingDateTime = matchingDateTime
-								.with(TemporalAdjusters.previousOrSame(DayOfWeek.of(weekday)));
+								.with(TemporalAdjusters.previousOrSame(dayOfWeek));
 					}
 					else {
 						matchingDateTime = matchingDateTime
-								.with(TemporalAdjusters.previous(DayOfWeek.of(weekday)));
+								.with(TemporalAdjusters.previous(dayOfWeek));
 					}
 				}
 			}
 			matchingDateTime = matchingDateTime
-					.withHour(hour != null ? hour : 0)
-					.withMinute(minute != null ? minute : 0);
-		} // end of if (weekday != null) {
+					.withHour(valueOr(MatchingComponent.HOUR, 0))
+					.withMinute(valueOr(MatchingComponent.MINUTE, 0));
+		} // end of if (schedule.has(MatchingComponent.WEEKDAY)) {
 	}
 	
 	/**
@@ -234,33 +301,30 @@ public class Enumerator {
 	 * @return True if match, otherwise False 
 	 */
 	public boolean match(LocalDateTime dt) {
-		if (year != null && dt.getYear() != year) return false;
-		if (month != null && dt.getMonthValue() != month) return false;
-		if (day != null && dt.getDayOfMonth() != day) return false;
-		if (hour != null && dt.getHour() != hour) return false;
-		if (minute != null && dt.getMinute() != minute) return false;
-		if (weekday != null && dt.get(WeekFields.ISO.dayOfWeek()) != weekday) return false;
-		if (weekday != null && weekdayOrdinal != null && getOrdinalOfWeek(dt) != weekdayOrdinal) return false;
-		if (quarter != null && dt.get(IsoFields.QUARTER_OF_YEAR) != quarter) return false;
-		if (weekOfMonth != null && dt.get(WeekFields.ISO.weekOfMonth()) != weekOfMonth) return false;
-		if (weekOfYear != null && dt.get(WeekFields.ISO.weekOfYear()) != weekOfYear) return false;
-		return true;
+		MatchingComponent mismatch = mismatch(dt);
+		if (metrics != null) metrics.tested(schedule, mismatch);
+		return mismatch == null;
+	}
+	
+	private MatchingComponent mismatch(LocalDateTime dt) {
+		return schedule.mismatch(dt.getYear(), schedule.table(dt.getYear()), dt.getDayOfYear(), dt.getHour(), dt.getMinute());
 	}
 	
 	private boolean enumerateByYear() {
-		if (year == null) {
+		if (metrics != null) metrics.rollover(MatchingComponent.YEAR);
+		if (!schedule.has(MatchingComponent.YEAR)) {
 			while (countOfMatches < maxNumOfMatches) {
 				LocalDateTime newDateTime = matchingDateTime
 						.plusYears(matchingDirection == MatchingDirection.FORWARD ? 1 : -1)
-						.withMonth(month != null ? month : 1)
-						.withDayOfMonth(day != null ? day : 1)
-						.withHour(hour != null ? hour : 0)
-						.withMinute(minute != null ? minute : 0);
+						.withMonth(valueOr(MatchingComponent.MONTH, 1))
+						.withDayOfMonth(valueOr(MatchingComponent.DAY, 1))
+						.withHour(valueOr(MatchingComponent.HOUR, 0))
+						.withMinute(valueOr(MatchingComponent.MINUTE, 0));
 				
-				if (quarter != null) {
+				if (schedule.has(MatchingComponent.QUARTER)) {
 					newDateTime = LocalDateTime
 							.of(LocalDate.of(newDateTime.getYear(), 1, 1), LocalTime.of(0, 0))
-							.plusMonths(3 * (quarter - 1));
+							.plusMonths(3 * (schedule.get(MatchingComponent.QUARTER) - 1));
 					if (matchingDirection == MatchingDirection.FORWARD) {
 						while(!newDateTime.isAfter(matchingDateTime)) {
 							newDateTime = newDateTime.plusDays(1);
@@ -272,14 +336,12 @@ public class Enumerator {
 						}
 					}
 					newDateTime = newDateTime
-							.withHour(hour != null? hour : 0)
-							.withMinute(minute != null ? minute : 0);
+							.withHour(valueOr(MatchingComponent.HOUR, 0))
+							.withMinute(valueOr(MatchingComponent.MINUTE, 0));
 				}
 				
-				if (weekOfYear != null) {
-					newDateTime = newDateTime
-							.with(WeekFields.ISO.weekOfYear(), weekOfYear) // locate week of year
-							.with(WeekFields.ISO.dayOfWeek(), 1); // locate first day of week
+				if (schedule.has(MatchingComponent.WEEK_OF_YEAR)) {
+					newDateTime = locateWeekOfYear(newDateTime); // locate first day of week of year
 					if (matchingDirection == MatchingDirection.FORWARD) {
 						while(!newDateTime.isAfter(matchingDateTime)) {
 							newDateTime = newDateTime.plusDays(1);
@@ -291,13 +353,11 @@ public class Enumerator {
 						}
 					}
 					newDateTime = newDateTime
-							.withHour(hour != null? hour : 0)
-							.withMinute(minute != null ? minute : 0);
+							.withHour(valueOr(MatchingComponent.HOUR, 0))
+							.withMinute(valueOr(MatchingComponent.MINUTE, 0));
 				}
-				else if (weekOfMonth != null) {
-					newDateTime = newDateTime
-							.with(WeekFields.ISO.weekOfMonth(), weekOfMonth) // locate week of month
-							.with(WeekFields.ISO.dayOfWeek(), 1); // locate first day of week
+				else if (schedule.has(MatchingComponent.WEEK_OF_MONTH)) {
+					newDateTime = locateWeekOfMonth(newDateTime); // locate first day of week of month
 					if (matchingDirection == MatchingDirection.FORWARD) {
 						while(!newDateTime.isAfter(matchingDateTime)) {
 							newDateTime = newDateTime.plusDays(1);
@@ -309,26 +369,26 @@ public class Enumerator {
 						}
 					}
 					newDateTime = newDateTime
-							.withHour(hour != null? hour : 0)
-							.withMinute(minute != null ? minute : 0);
+							.withHour(valueOr(MatchingComponent.HOUR, 0))
+							.withMinute(valueOr(MatchingComponent.MINUTE, 0));
 				}
 				
-				if (weekday != null) {
-					if (weekdayOrdinal != null) {
+				if (schedule.has(MatchingComponent.WEEKDAY)) {
+					if (schedule.has(MatchingComponent.WEEKDAY_ORDINAL)) {
 						newDateTime = newDateTime
-								.with(TemporalAdjusters.dayOfWeekInMonth(weekdayOrdinal, DayOfWeek.of(weekday)));
+								.with(TemporalAdjusters.dayOfWeekInMonth(schedule.get(MatchingComponent.WEEKDAY_ORDINAL), dayOfWeek));
 						if (matchingDirection == MatchingDirection.FORWARD) {
 							while(!newDateTime.isAfter(matchingDateTime)) {
 								newDateTime = newDateTime
 										.plusMonths(1)
-										.with(TemporalAdjusters.dayOfWeekInMonth(weekdayOrdinal, DayOfWeek.of(weekday)));
+										.with(TemporalAdjusters.dayOfWeekInMonth(schedule.get(MatchingComponent.WEEKDAY_ORDINAL), dayOfWeek));
 							}
 						}
 						else {
 							while(!newDateTime.isBefore(matchingDateTime)) {
 								newDateTime = newDateTime
 										.minusMonths(1)
-										.with(TemporalAdjusters.dayOfWeekInMonth(weekdayOrdinal, DayOfWeek.of(weekday)));
+										.with(TemporalAdjusters.dayOfWeekInMonth(schedule.get(MatchingComponent.WEEKDAY_ORDINAL), dayOfWeek));
 							}
 						}
 					}
@@ -336,21 +396,21 @@ public class Enumerator {
 						if (matchingDirection == MatchingDirection.FORWARD) {
 							if (newDateTime.isAfter(matchingDateTime)) {
 								newDateTime = newDateTime
-										.with(TemporalAdjusters.nextOrSame(DayOfWeek.of(weekday)));
+										.with(TemporalAdjusters.nextOrSame(dayOfWeek));
 							}
 							else {
 								newDateTime = newDateTime
-										.with(TemporalAdjusters.next(DayOfWeek.of(weekday)));
+										.with(TemporalAdjusters.next(dayOfWeek));
 							}
 						}
 						else {
 							if (newDateTime.isBefore(matchingDateTime)) {
 								newDateTime = newDateTime
-										.with(TemporalAdjusters.previousOrSame(DayOfWeek.of(weekday)));
+										.with(TemporalAdjusters.previousOrSame(dayOfWeek));
 							}
 							else {
 								newDateTime = newDateTime
-										.with(TemporalAdjusters.previous(DayOfWeek.of(weekday)));
+										.with(TemporalAdjusters.previous(dayOfWeek));
 							}
 						}
 					}
@@ -370,18 +430,19 @@ public class Enumerator {
 	}
 	
 	private boolean enumerateByMonth() {
-		if (month == null) {
+		if (metrics != null) metrics.rollover(MatchingComponent.MONTH);
+		if (!schedule.has(MatchingComponent.MONTH)) {
 			while (countOfMatches < maxNumOfMatches) {
 				LocalDateTime newDateTime = matchingDateTime
 						.plusMonths(matchingDirection == MatchingDirection.FORWARD ? 1 : -1)
-						.withDayOfMonth(day != null ? day : 1)
-						.withHour(hour != null ? hour : 0)
-						.withMinute(minute != null ? minute : 0);
+						.withDayOfMonth(valueOr(MatchingComponent.DAY, 1))
+						.withHour(valueOr(MatchingComponent.HOUR, 0))
+						.withMinute(valueOr(MatchingComponent.MINUTE, 0));
 				
-				if (quarter != null) {
+				if (schedule.has(MatchingComponent.QUARTER)) {
 					newDateTime = LocalDateTime
 							.of(LocalDate.of(newDateTime.getYear(), 1, 1), LocalTime.of(0, 0))
-							.plusMonths(3 * (quarter - 1));
+							.plusMonths(3 * (schedule.get(MatchingComponent.QUARTER) - 1));
 					if (matchingDirection == MatchingDirection.FORWARD) {
 						while(!newDateTime.isAfter(matchingDateTime)) {
 							newDateTime = newDateTime.plusDays(1);
@@ -393,14 +454,12 @@ public class Enumerator {
 						}
 					}
 					newDateTime = newDateTime
-							.withHour(hour != null? hour : 0)
-							.withMinute(minute != null ? minute : 0);
+							.withHour(valueOr(MatchingComponent.HOUR, 0))
+							.withMinute(valueOr(MatchingComponent.MINUTE, 0));
 				}
 				
-				if (weekOfYear != null) {
-					newDateTime = newDateTime
-							.with(WeekFields.ISO.weekOfYear(), weekOfYear) // locate week of year
-							.with(WeekFields.ISO.dayOfWeek(), 1); // locate first day of week
+				if (schedule.has(MatchingComponent.WEEK_OF_YEAR)) {
+					newDateTime = locateWeekOfYear(newDateTime); // locate first day of week of year
 					if (matchingDirection == MatchingDirection.FORWARD) {
 						while(!newDateTime.isAfter(matchingDateTime)) {
 							newDateTime = newDateTime.plusDays(1);
@@ -412,13 +471,11 @@ public class Enumerator {
 						}
 					}
 					newDateTime = newDateTime
-							.withHour(hour != null? hour : 0)
-							.withMinute(minute != null ? minute : 0);
+							.withHour(valueOr(MatchingComponent.HOUR, 0))
+							.withMinute(valueOr(MatchingComponent.MINUTE, 0));
 				}
-				else if (weekOfMonth != null) {
-					newDateTime = newDateTime
-							.with(WeekFields.ISO.weekOfMonth(), weekOfMonth) // locate week of month
-							.with(WeekFields.ISO.dayOfWeek(), 1); // locate first day of week
+				else if (schedule.has(MatchingComponent.WEEK_OF_MONTH)) {
+					newDateTime = locateWeekOfMonth(newDateTime); // locate first day of week of month
 					if (matchingDirection == MatchingDirection.FORWARD) {
 						while(!newDateTime.isAfter(matchingDateTime)) {
 							newDateTime = newDateTime.plusDays(1);
@@ -430,26 +487,26 @@ public class Enumerator {
 						}
 					}
 					newDateTime = newDateTime
-							.withHour(hour != null? hour : 0)
-							.withMinute(minute != null ? minute : 0);
+							.withHour(valueOr(MatchingComponent.HOUR, 0))
+							.withMinute(valueOr(MatchingComponent.MINUTE, 0));
 				}
 				
-				if (weekday != null) {
-					if (weekdayOrdinal != null) {
+				if (schedule.has(MatchingComponent.WEEKDAY)) {
+					if (schedule.has(MatchingComponent.WEEKDAY_ORDINAL)) {
 						newDateTime = newDateTime
-								.with(TemporalAdjusters.dayOfWeekInMonth(weekdayOrdinal, DayOfWeek.of(weekday)));
+								.with(TemporalAdjusters.dayOfWeekInMonth(schedule.get(MatchingComponent.WEEKDAY_ORDINAL), dayOfWeek));
 						if (matchingDirection == MatchingDirection.FORWARD) {
 							while(!newDateTime.isAfter(matchingDateTime)) {
 								newDateTime = newDateTime
 										.plusMonths(1)
-										.with(TemporalAdjusters.dayOfWeekInMonth(weekdayOrdinal, DayOfWeek.of(weekday)));
+										.with(TemporalAdjusters.dayOfWeekInMonth(schedule.get(MatchingComponent.WEEKDAY_ORDINAL), dayOfWeek));
 							}
 						}
 						else {
 							while(!newDateTime.isBefore(matchingDateTime)) {
 								newDateTime = newDateTime
 										.plusMonths(-1)
-										.with(TemporalAdjusters.dayOfWeekInMonth(weekdayOrdinal, DayOfWeek.of(weekday)));
+										.with(TemporalAdjusters.dayOfWeekInMonth(schedule.get(MatchingComponent.WEEKDAY_ORDINAL), dayOfWeek));
 							}
 						}
 					}
@@ -457,21 +514,21 @@ public class Enumerator {
 						if (matchingDirection == MatchingDirection.FORWARD) {
 							if (newDateTime.isAfter(matchingDateTime)) {
 								newDateTime = newDateTime
-										.with(TemporalAdjusters.nextOrSame(DayOfWeek.of(weekday)));
+										.with(TemporalAdjusters.nextOrSame(dayOfWeek));
 							}
 							else {
 								newDateTime = newDateTime
-										.with(TemporalAdjusters.next(DayOfWeek.of(weekday)));
+										.with(TemporalAdjusters.next(dayOfWeek));
 							}
 						}
 						else {
 							if (newDateTime.isBefore(matchingDateTime)) {
 								newDateTime = newDateTime
-										.with(TemporalAdjusters.previousOrSame(DayOfWeek.of(weekday)));
+										.with(TemporalAdjusters.previousOrSame(dayOfWeek));
 							}
 							else {
 								newDateTime = newDateTime
-										.with(TemporalAdjusters.previous(DayOfWeek.of(weekday)));
+										.with(TemporalAdjusters.previous(dayOfWeek));
 							}
 						}
 					}
@@ -491,23 +548,24 @@ public class Enumerator {
 	}
 	
 	private boolean enumerateByWeekdayOrDay() {
-		if (weekday != null) {
-			if (weekdayOrdinal != null) { // try enumerating by weekday & weekday ordinal
+		if (metrics != null) metrics.rollover(MatchingComponent.DAY);
+		if (schedule.has(MatchingComponent.WEEKDAY)) {
+			if (schedule.has(MatchingComponent.WEEKDAY_ORDINAL)) { // try enumerating by weekday & weekday ordinal
 				while (countOfMatches < maxNumOfMatches) {
 					LocalDateTime newDateTime = matchingDateTime
-							.with(TemporalAdjusters.dayOfWeekInMonth(weekdayOrdinal, DayOfWeek.of(weekday)));
+							.with(TemporalAdjusters.dayOfWeekInMonth(schedule.get(MatchingComponent.WEEKDAY_ORDINAL), dayOfWeek));
 					if (matchingDirection == MatchingDirection.FORWARD) {
 						while(!newDateTime.isAfter(matchingDateTime)) {
 							newDateTime = newDateTime
 									.plusMonths(1)
-									.with(TemporalAdjusters.dayOfWeekInMonth(weekdayOrdinal, DayOfWeek.of(weekday)));
+									.with(TemporalAdjusters.dayOfWeekInMonth(schedule.get(MatchingComponent.WEEKDAY_ORDINAL), dayOfWeek));
 						}
 					}
 					else {
 						while(!newDateTime.isBefore(matchingDateTime)) {
 							newDateTime = newDateTime
 									.minusMonths(1)
-									.with(TemporalAdjusters.dayOfWeekInMonth(weekdayOrdinal, DayOfWeek.of(weekday)));
+									.with(TemporalAdjusters.dayOfWeekInMonth(schedule.get(MatchingComponent.WEEKDAY_ORDINAL), dayOfWeek));
 						}
 					}
 					if (match(newDateTime)) {
@@ -525,15 +583,15 @@ public class Enumerator {
 					LocalDateTime newDateTime = null;
 					if (matchingDirection == MatchingDirection.FORWARD) {
 						newDateTime = matchingDateTime
-								.with(TemporalAdjusters.next(DayOfWeek.of(weekday)));
+								.with(TemporalAdjusters.next(dayOfWeek));
 					}
 					else {
 						newDateTime = matchingDateTime
-								.with(TemporalAdjusters.previous(DayOfWeek.of(weekday)));
+								.with(TemporalAdjusters.previous(dayOfWeek));
 					}
 					newDateTime = newDateTime
-							.withHour(hour != null? hour : 0)
-							.withMinute(minute != null ? minute : 0);
+							.withHour(valueOr(MatchingComponent.HOUR, 0))
+							.withMinute(valueOr(MatchingComponent.MINUTE, 0));
 					if (match(newDateTime)) {
 						matchingDateTime = newDateTime;
 						countOfMatches ++;
@@ -544,15 +602,15 @@ public class Enumerator {
 				}
 				return true;
 			}
-		} // end of if (weekday != null) {
+		} // end of if (schedule.has(MatchingComponent.WEEKDAY)) {
 		else {
 			// try enumerating by Day
-			if (day == null) {
+			if (!schedule.has(MatchingComponent.DAY)) {
 				while (countOfMatches < maxNumOfMatches) {
 					LocalDateTime newDateTime = matchingDateTime
 							.plusDays(matchingDirection == MatchingDirection.FORWARD ? 1 : -1)
-							.withHour(hour != null ? hour : 0)
-							.withMinute(minute != null ? minute : 0);
+							.withHour(valueOr(MatchingComponent.HOUR, 0))
+							.withMinute(valueOr(MatchingComponent.MINUTE, 0));
 					if (match(newDateTime)) {
 						matchingDateTime = newDateTime;
 						countOfMatches ++;
@@ -562,17 +620,18 @@ public class Enumerator {
 					else if (!enumerateByMonth()) return false; // try enumerating by month
 				}
 				return true;
-			} // end of if (day == null) {
+			} // end of if (!schedule.has(MatchingComponent.DAY)) {
 			else return enumerateByMonth(); // fixed day, try enumerating by month
 		}
 	}
 	
 	private boolean enumerateByHour() {
-		if (hour == null) { 
+		if (metrics != null) metrics.rollover(MatchingComponent.HOUR);
+		if (!schedule.has(MatchingComponent.HOUR)) { 
 			while (countOfMatches < maxNumOfMatches) {
 				LocalDateTime newDateTime = matchingDateTime
 						.plusHours(matchingDirection == MatchingDirection.FORWARD ? 1 : -1)
-						.withMinute(minute != null ? minute : 0);
+						.withMinute(valueOr(MatchingComponent.MINUTE, 0));
 				if (match(newDateTime)) {
 					matchingDateTime = newDateTime;
 					countOfMatches ++;
@@ -587,7 +646,8 @@ public class Enumerator {
 	}
 	
 	private boolean enumerateByMinute() {
-		if (minute == null) {
+		if (metrics != null) metrics.rollover(MatchingComponent.MINUTE);
+		if (!schedule.has(MatchingComponent.MINUTE)) {
 			while (countOfMatches < maxNumOfMatches) {
 				LocalDateTime newDateTime = matchingDateTime
 						.plusMinutes(matchingDirection == MatchingDirection.FORWARD ? 1 : -1);
@@ -609,12 +669,24 @@ public class Enumerator {
 	 * @return Number of matched dates 
 	 */
 	public int enumerate() {
-		if ((matchingDirection == MatchingDirection.FORWARD && matchingDateTime.isAfter(originDateTime))
-				|| (matchingDirection == MatchingDirection.BACKWARD && matchingDateTime.isBefore(originDateTime))) {
-			countOfMatches ++;
-			if (matchingCallback != null) matchingCallback.onMatched(countOfMatches, matchingDateTime);
+		long startNanos = metrics != null ? System.nanoTime() : 0;
+		int previousCountOfMatches = countOfMatches;
+		if (!resumed && matchingDateTime != null) {
+			resumed = true; // later calls continue after the last match instead of emitting it again
+			/* the first candidate is only positioned near the components, it is a match only if it
+			 * satisfies all of them. Only a mismatch can come from contradicting components, which
+			 * would never end the enumeration, so the pattern is not analyzed before. */
+			if (match(matchingDateTime)) {
+				if ((matchingDirection == MatchingDirection.FORWARD && matchingDateTime.isAfter(originDateTime))
+						|| (matchingDirection == MatchingDirection.BACKWARD && matchingDateTime.isBefore(originDateTime))) {
+					countOfMatches ++;
+					if (matchingCallback != null) matchingCallback.onMatched(countOfMatches, matchingDateTime);
+				}
+			}
+			else if (schedule.analyze().isEmpty()) matchingDateTime = null; // see PatternAnalysis
 		}
-		enumerateByMinute();
+		if (matchingDateTime != null) enumerateByMinute(); // null for contradicting components
+		if (metrics != null) metrics.enumerated(countOfMatches - previousCountOfMatches, System.nanoTime() - startNanos);
 		return this.countOfMatches;
 	}
 }
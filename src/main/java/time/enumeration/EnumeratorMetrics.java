@@ -0,0 +1,161 @@
+package time.enumeration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hot path counters of one or more {@link Enumerator} objects. Collection is optional: an
+ * enumerator only updates counters after {@link Enumerator#setMetrics(EnumeratorMetrics)}.
+ * Counters are safe to update from many threads at once.
+ * <p>
+ * For example, to count how candidates of an enumeration are rejected and publish the counters
+ * through the platform MBean server:
+ * <pre>{@code
+ * EnumeratorMetrics metrics = new EnumeratorMetrics();
+ * ManagementFactory.getPlatformMBeanServer()
+ * 	.registerMBean(metrics, new ObjectName("time.enumeration:type=EnumeratorMetrics"));
+ * Enumerator enumerator = new Enumerator(matchingDateTime, matchingDirection, matchingComponents, maxNumOfMatches, matchingCallback);
+ * enumerator.setMetrics(metrics);
+ * enumerator.enumerate();
+ * System.out.printf("Rejected candidates: %s\n", metrics.getCandidatesRejected());
+ * }</pre>
+ */
+public class EnumeratorMetrics implements EnumeratorMetricsMXBean {
+	private static final MatchingComponent[] COMPONENTS = MatchingComponent.values();
+	private static final MatchingComponent[] LEVELS = {
+			MatchingComponent.YEAR,
+			MatchingComponent.MONTH,
+			MatchingComponent.DAY,
+			MatchingComponent.HOUR,
+			MatchingComponent.MINUTE };
+	/* components whose values match() reads from the calendar tables instead of computing them
+	 * through WeekFields or IsoFields */
+	private static final int TABLE_FIELDS = (1 << MatchingComponent.WEEKDAY.ordinal())
+			| (1 << MatchingComponent.WEEKDAY_ORDINAL.ordinal())
+			| (1 << MatchingComponent.QUARTER.ordinal())
+			| (1 << MatchingComponent.WEEK_OF_MONTH.ordinal())
+			| (1 << MatchingComponent.WEEK_OF_YEAR.ordinal());
+
+	private final LongAdder candidatesTested = new LongAdder();
+	private final LongAdder[] candidatesRejected = newAdders(COMPONENTS.length);
+	private final LongAdder[] rollovers = newAdders(COMPONENTS.length);
+	private final LongAdder calendarTableHits = new LongAdder();
+	private final LongAdder enumerations = new LongAdder();
+	private final LongAdder matches = new LongAdder();
+	private final LongAdder enumerationNanos = new LongAdder();
+	private final LongAccumulator maxEnumerationNanos = new LongAccumulator(Math::max, 0);
+
+	private static LongAdder[] newAdders(int length) {
+		LongAdder[] adders = new LongAdder[length];
+		for (int i = 0; i < length; i++) adders[i] = new LongAdder();
+		return adders;
+	}
+
+	void tested(Schedule schedule, MatchingComponent mismatch) {
+		candidatesTested.increment();
+		if (mismatch != null) candidatesRejected[mismatch.ordinal()].increment();
+		/* components are tested in ordinal order up to the first mismatch, and the weekday
+		 * ordinal only together with the weekday */
+		int read = schedule.mask & TABLE_FIELDS;
+		if (!schedule.has(MatchingComponent.WEEKDAY)) read &= ~(1 << MatchingComponent.WEEKDAY_ORDINAL.ordinal());
+		if (mismatch != null) read &= (2 << mismatch.ordinal()) - 1;
+		if (read != 0) calendarTableHits.add(Integer.bitCount(read));
+	}
+
+	void tableHits(int fields) {
+		calendarTableHits.add(fields);
+	}
+
+	void rollover(MatchingComponent level) {
+		rollovers[level.ordinal()].increment();
+	}
+
+	void enumerated(int newMatches, long nanos) {
+		enumerations.increment();
+		matches.add(newMatches);
+		enumerationNanos.add(nanos);
+		maxEnumerationNanos.accumulate(nanos);
+	}
+
+	/**
+	 * Returns the number of candidates rejected by the given matching component
+	 * 
+	 * @param component A matching component
+	 * @return Number of candidates for which the component was the first mismatch
+	 */
+	public long getCandidatesRejected(MatchingComponent component) {
+		return candidatesRejected[component.ordinal()].sum();
+	}
+
+	/**
+	 * Returns the number of times the given enumeration level was entered
+	 * 
+	 * @param level One of {@code YEAR, MONTH, DAY, HOUR} or {@code MINUTE}
+	 * @return Number of times the level was entered
+	 */
+	public long getRollovers(MatchingComponent level) {
+		return rollovers[level.ordinal()].sum();
+	}
+
+	@Override
+	public long getCandidatesTested() {
+		return candidatesTested.sum();
+	}
+
+	@Override
+	public Map<String, Long> getCandidatesRejected() {
+		Map<String, Long> rejected = new LinkedHashMap<String, Long>();
+		for (MatchingComponent component : COMPONENTS) {
+			rejected.put(component.name(), getCandidatesRejected(component));
+		}
+		return rejected;
+	}
+
+	@Override
+	public Map<String, Long> getRollovers() {
+		Map<String, Long> levels = new LinkedHashMap<String, Long>();
+		for (MatchingComponent level : LEVELS) {
+			levels.put(level.name(), getRollovers(level));
+		}
+		return levels;
+	}
+
+	@Override
+	public long getCalendarTableHits() {
+		return calendarTableHits.sum();
+	}
+
+	@Override
+	public long getEnumerations() {
+		return enumerations.sum();
+	}
+
+	@Override
+	public long getMatches() {
+		return matches.sum();
+	}
+
+	@Override
+	public long getEnumerationNanos() {
+		return enumerationNanos.sum();
+	}
+
+	@Override
+	public long getMaxEnumerationNanos() {
+		return maxEnumerationNanos.get();
+	}
+
+	@Override
+	public void reset() {
+		candidatesTested.reset();
+		for (LongAdder adder : candidatesRejected) adder.reset();
+		for (LongAdder adder : rollovers) adder.reset();
+		calendarTableHits.reset();
+		enumerations.reset();
+		matches.reset();
+		enumerationNanos.reset();
+		maxEnumerationNanos.reset();
+	}
+}
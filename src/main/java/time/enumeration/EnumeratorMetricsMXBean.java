@@ -0,0 +1,56 @@
+package time.enumeration;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link EnumeratorMetrics} for exposing enumeration counters through JMX.
+ */
+public interface EnumeratorMetricsMXBean {
+	/**
+	 * @return Number of candidate dates tested against the matching components
+	 */
+	long getCandidatesTested();
+
+	/**
+	 * @return Number of rejected candidates, keyed by the first matching component that rejected them
+	 */
+	Map<String, Long> getCandidatesRejected();
+
+	/**
+	 * @return Number of times each enumeration level was entered, keyed by
+	 * {@code YEAR, MONTH, DAY, HOUR} and {@code MINUTE}
+	 */
+	Map<String, Long> getRollovers();
+
+	/**
+	 * @return Number of weekday, weekday ordinal, quarter, week of month and week of year values
+	 * read from the shared calendar tables, each of which used to be computed through
+	 * {@code LocalDate}, {@code WeekFields} or {@code IsoFields}
+	 */
+	long getCalendarTableHits();
+
+	/**
+	 * @return Number of completed {@code enumerate()} calls
+	 */
+	long getEnumerations();
+
+	/**
+	 * @return Number of dates matched by all completed {@code enumerate()} calls
+	 */
+	long getMatches();
+
+	/**
+	 * @return Total time spent in {@code enumerate()} calls in nanoseconds
+	 */
+	long getEnumerationNanos();
+
+	/**
+	 * @return Longest time spent in a single {@code enumerate()} call in nanoseconds
+	 */
+	long getMaxEnumerationNanos();
+
+	/**
+	 * Resets all counters to zero
+	 */
+	void reset();
+}
@@ -0,0 +1,104 @@
+package time.enumeration;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+
+/**
+ * Forecasts how many matches a set of {@link Schedule} objects has in each bucket of a time range,
+ * e.g. to find minutes or hours in which many schedules fire at once.
+ * <p>
+ * Matches are counted, not enumerated: for every matching day of a schedule, replayed from its
+ * cached matching days, the bucket of each matching minute is computed directly when the minute
+ * is fixed, and the matching hour or whole day is otherwise added to the few buckets it overlaps.
+ * Schedules are counted in parallel.
+ * <p>
+ * For example, count the matches of all schedules per hour over the next 7 days:
+ * <pre>{@code
+ * LocalDateTime start = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+ * long[] counts = FiringForecast.histogram(schedules, start, 7 * 24, ChronoUnit.HOURS);
+ * for (int i = 0; i < counts.length; i++) {
+ * 	System.out.printf("%s: %d\n", start.plusHours(i), counts[i]);
+ * }
+ * }</pre>
+ */
+public final class FiringForecast {
+	private static final int MINUTES_PER_DAY = 24 * 60;
+
+	private FiringForecast() {
+	}
+
+	/**
+	 * Counts the matches of the given schedules per bucket. Bucket {@code i} covers the minutes
+	 * from {@code start + i} buckets inclusive to {@code start + i + 1} buckets exclusive.
+	 *
+	 * @param schedules Compiled matching components
+	 * @param start The start of the first bucket, seconds are ignored
+	 * @param numOfBuckets Number of buckets
+	 * @param bucketUnit The size of a bucket, one of {@link ChronoUnit#MINUTES},
+	 * {@link ChronoUnit#HOURS} or {@link ChronoUnit#DAYS}
+	 * @return Number of matches per bucket
+	 */
+	public static long[] histogram(Collection<Schedule> schedules, LocalDateTime start, int numOfBuckets, ChronoUnit bucketUnit) {
+		long bucketMinutes;
+		switch (bucketUnit) {
+		case MINUTES: bucketMinutes = 1; break;
+		case HOURS: bucketMinutes = 60; break;
+		case DAYS: bucketMinutes = MINUTES_PER_DAY; break;
+		default: throw new IllegalArgumentException("Unsupported unit: " + bucketUnit);
+		}
+		if (numOfBuckets < 0) throw new IllegalArgumentException("Negative number of buckets: " + numOfBuckets);
+		long first = Math.floorDiv(start.toEpochSecond(ZoneOffset.UTC), 60);
+		return schedules.parallelStream().collect(
+				() -> new long[numOfBuckets],
+				(counts, schedule) -> count(schedule, first, bucketMinutes, counts),
+				(counts, other) -> {
+					for (int i = 0; i < counts.length; i++) counts[i] += other[i];
+				});
+	}
+
+	private static void count(Schedule schedule, long first, long bucketMinutes, long[] counts) {
+		if (schedule.analyze().isEmpty()) return;
+		long end = first + bucketMinutes * counts.length;
+		int hour = schedule.has(MatchingComponent.HOUR) ? schedule.get(MatchingComponent.HOUR) : -1;
+		int minute = schedule.has(MatchingComponent.MINUTE) ? schedule.get(MatchingComponent.MINUTE) : -1;
+		int firstYear = LocalDateTime.ofEpochSecond(first * 60, 0, ZoneOffset.UTC).getYear();
+		int lastYear = LocalDateTime.ofEpochSecond((end - 1) * 60, 0, ZoneOffset.UTC).getYear();
+		if (schedule.has(MatchingComponent.YEAR)) {
+			int year = schedule.get(MatchingComponent.YEAR);
+			if (year < firstYear || year > lastYear) return;
+			firstYear = lastYear = year;
+		}
+		for (int year = firstYear; year <= lastYear; year++) {
+			long firstMinuteOfYear = CalendarTable.firstEpochDay(year) * MINUTES_PER_DAY;
+			for (short dayOfYear : schedule.matchingDays(schedule.table(year))) {
+				long dayStart = firstMinuteOfYear + (dayOfYear - 1) * (long) MINUTES_PER_DAY;
+				if (dayStart >= end || dayStart + MINUTES_PER_DAY <= first) continue;
+				if (minute >= 0) { // 1 or 24 isolated matching minutes
+					for (int h = hour >= 0 ? hour : 0; h <= (hour >= 0 ? hour : 23); h++) {
+						countRun(dayStart + h * 60 + minute, 1, first, bucketMinutes, counts);
+					}
+				}
+				else if (hour >= 0) {
+					countRun(dayStart + hour * 60, 60, first, bucketMinutes, counts);
+				}
+				else {
+					countRun(dayStart, MINUTES_PER_DAY, first, bucketMinutes, counts);
+				}
+			}
+		}
+	}
+
+	/* adds the minutes of a run of consecutive matching minutes to the buckets it overlaps */
+	private static void countRun(long runStart, int runLength, long first, long bucketMinutes, long[] counts) {
+		long low = Math.max(runStart, first);
+		long high = Math.min(runStart + runLength, first + bucketMinutes * counts.length);
+		if (low >= high) return;
+		int lastBucket = (int) ((high - 1 - first) / bucketMinutes);
+		for (int bucket = (int) ((low - first) / bucketMinutes); bucket <= lastBucket; bucket++) {
+			long bucketStart = first + bucket * bucketMinutes;
+			counts[bucket] += Math.min(high, bucketStart + bucketMinutes) - Math.max(low, bucketStart);
+		}
+	}
+}
@@ -0,0 +1,333 @@
+package time.enumeration;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+/**
+ * Enumerates the matching minutes of a {@link Schedule} as primitive values, without creating an
+ * object per match. Matches are written in bulk into a caller-provided {@code long[]} or
+ * {@link ByteBuffer} as epoch minutes or epoch seconds of the matching date read as UTC.
+ * <p>
+ * The cursor keeps its position between calls, so a long enumeration can be streamed through a
+ * fixed buffer. Like {@link Enumerator}, matches are strictly after (or before) the given date
+ * object; seconds of the date object are ignored.
+ * <p>
+ * Matching days are replayed from the cached days of the schedule for each year type, see
+ * {@link Schedule#periodInYears()}, so the cost of a long enumeration or of a far away first
+ * match grows with the number of matches and years rather than with the number of days.
+ * <p>
+ * For example, to write every match of a schedule with a fixed year into a file as epoch seconds:
+ * <pre>{@code
+ * MatchCursor cursor = new MatchCursor(matchingDateTime, MatchingDirection.FORWARD, Schedule.of(matchingComponents));
+ * ByteBuffer buffer = ByteBuffer.allocateDirect(8 * 4096);
+ * try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+ * 	while (cursor.next(buffer, ChronoUnit.SECONDS) > 0) {
+ * 		buffer.flip();
+ * 		channel.write(buffer);
+ * 		buffer.clear();
+ * 	}
+ * }
+ * }</pre>
+ */
+public final class MatchCursor {
+	private static final int MINUTES_PER_DAY = 24 * 60;
+
+	private final Schedule schedule;
+	private final boolean forward;
+	private final int hour;
+	private final int minute;
+
+	private int year;
+	private CalendarTable table;
+	private int dayOfYear;
+	private int minuteOfDay;
+	private boolean exhausted;
+
+	private int savedYear;
+	private int savedDayOfYear;
+	private int savedMinuteOfDay;
+	private boolean savedExhausted;
+
+	/**
+	 * Constructs a cursor positioned at the given date object
+	 *
+	 * @param matchingDateTime A date object
+	 * @param matchingDirection A direction of matching enumeration
+	 * @param schedule Compiled matching components
+	 */
+	public MatchCursor(LocalDateTime matchingDateTime, MatchingDirection matchingDirection, Schedule schedule) {
+		this.schedule = schedule;
+		this.forward = matchingDirection == MatchingDirection.FORWARD;
+		this.hour = schedule.has(MatchingComponent.HOUR) ? schedule.get(MatchingComponent.HOUR) : -1;
+		this.minute = schedule.has(MatchingComponent.MINUTE) ? schedule.get(MatchingComponent.MINUTE) : -1;
+		seek(matchingDateTime);
+	}
+
+	/**
+	 * Repositions the cursor at the given date object, as if it was newly constructed there
+	 *
+	 * @param matchingDateTime A date object
+	 */
+	public void seek(LocalDateTime matchingDateTime) {
+		if (year != matchingDateTime.getYear() || table == null) table = schedule.table(matchingDateTime.getYear());
+		year = matchingDateTime.getYear();
+		dayOfYear = matchingDateTime.getDayOfYear();
+		minuteOfDay = matchingDateTime.getHour() * 60 + matchingDateTime.getMinute();
+		exhausted = schedule.analyze().isEmpty();
+	}
+
+	/**
+	 * Check if the cursor has passed its last match
+	 *
+	 * @return True if no more match can be found, otherwise False
+	 */
+	public boolean isExhausted() {
+		return exhausted;
+	}
+
+	/**
+	 * Moves to the next match
+	 *
+	 * @return The next matched date object, or {@code null} if no more match is found
+	 */
+	public LocalDateTime next() {
+		if (!advance()) return null;
+		return LocalDateTime.ofEpochSecond(epochMinute() * 60, 0, ZoneOffset.UTC);
+	}
+
+	/**
+	 * Fills an array with the next matches
+	 *
+	 * @param dst The target array
+	 * @param offset The first index to write
+	 * @param length Maximum number of matches to write
+	 * @param unit Either {@link ChronoUnit#MINUTES} or {@link ChronoUnit#SECONDS} since the epoch
+	 * @return Number of matches written, less than {@code length} only if no more match is found
+	 */
+	public int next(long[] dst, int offset, int length, ChronoUnit unit) {
+		int multiplier = multiplier(unit);
+		if (offset < 0 || length < 0 || offset + length > dst.length) throw new IndexOutOfBoundsException();
+		int count = 0;
+		while (count < length && advance()) {
+			dst[offset + count] = epochMinute() * multiplier;
+			count ++;
+		}
+		return count;
+	}
+
+	/**
+	 * Fills a buffer with the next matches as {@code long} values, as many as fit into its
+	 * remaining bytes
+	 *
+	 * @param dst The target buffer, written at its position in its byte order
+	 * @param unit Either {@link ChronoUnit#MINUTES} or {@link ChronoUnit#SECONDS} since the epoch
+	 * @return Number of matches written, less than fitting only if no more match is found
+	 */
+	public int next(ByteBuffer dst, ChronoUnit unit) {
+		int multiplier = multiplier(unit);
+		int count = 0;
+		while (dst.remaining() >= 8 && advance()) {
+			dst.putLong(epochMinute() * multiplier);
+			count ++;
+		}
+		return count;
+	}
+
+	/**
+	 * Enumerates the next matches as intervals of consecutive matching minutes. Runs are
+	 * extended a whole day or hour at a time, so a wide pattern such as every minute of each
+	 * Monday yields one interval per Monday without visiting each minute.
+	 * <p>
+	 * Intervals are reported in enumeration order and clipped at the given date object: no
+	 * interval ends after it when enumerating forward, and none starts before it when
+	 * enumerating backward. The cursor continues after the last reported interval, so an
+	 * interval clipped by one call continues as a new interval in the next call.
+	 *
+	 * @param until A date object bounding the enumeration, seconds are ignored
+	 * @param maxNumOfIntervals Maximum number of intervals
+	 * @param matchingIntervalCallback A code block to trigger with each interval
+	 * @return Number of intervals
+	 */
+	public int enumerateIntervals(LocalDateTime until, int maxNumOfIntervals, MatchingIntervalCallback matchingIntervalCallback) {
+		long limit = Math.floorDiv(until.toEpochSecond(ZoneOffset.UTC), 60);
+		int countOfIntervals = 0;
+		while (countOfIntervals < maxNumOfIntervals) {
+			save();
+			if (!advance()) break;
+			long match = epochMinute();
+			if (forward ? match >= limit : match < limit) {
+				restore(); // keep the match for a later call
+				break;
+			}
+			long dayStart = epochMinute() - minuteOfDay;
+			long start;
+			long end;
+			if (minute >= 0) { // isolated minutes
+				start = match;
+				end = match + 1;
+			}
+			else if (hour >= 0) { // one run per day within the fixed hour
+				start = forward ? match : dayStart + hour * 60;
+				end = forward ? dayStart + hour * 60 + 60 : match + 1;
+			}
+			else { // whole days, coalesce with following matching days
+				while (true) {
+					long lastDayStart = epochMinute() - minuteOfDay;
+					save();
+					if (forward) nextDay();
+					else previousDay();
+					long nextDayStart = epochMinute() + (forward ? 1 : -MINUTES_PER_DAY);
+					if (exhausted || nextDayStart != lastDayStart + (forward ? MINUTES_PER_DAY : -MINUTES_PER_DAY)
+							|| (forward ? nextDayStart >= limit : nextDayStart + MINUTES_PER_DAY <= limit)) {
+						restore();
+						break;
+					}
+				}
+				start = forward ? match : epochMinute() - minuteOfDay;
+				end = forward ? epochMinute() - minuteOfDay + MINUTES_PER_DAY : match + 1;
+			}
+			if (forward) {
+				end = Math.min(end, limit);
+				minuteOfDay = (int) (end - 1 - (epochMinute() - minuteOfDay));
+			}
+			else {
+				start = Math.max(start, limit);
+				minuteOfDay = (int) (start - (epochMinute() - minuteOfDay));
+			}
+			countOfIntervals ++;
+			if (matchingIntervalCallback != null) {
+				matchingIntervalCallback.onMatched(countOfIntervals,
+						LocalDateTime.ofEpochSecond(start * 60, 0, ZoneOffset.UTC),
+						LocalDateTime.ofEpochSecond(end * 60, 0, ZoneOffset.UTC));
+			}
+		}
+		return countOfIntervals;
+	}
+
+	private void save() {
+		savedYear = year;
+		savedDayOfYear = dayOfYear;
+		savedMinuteOfDay = minuteOfDay;
+		savedExhausted = exhausted;
+	}
+
+	private void restore() {
+		if (year != savedYear) table = schedule.table(savedYear);
+		year = savedYear;
+		dayOfYear = savedDayOfYear;
+		minuteOfDay = savedMinuteOfDay;
+		exhausted = savedExhausted;
+	}
+
+	private static int multiplier(ChronoUnit unit) {
+		if (unit == ChronoUnit.MINUTES) return 1;
+		if (unit == ChronoUnit.SECONDS) return 60;
+		throw new IllegalArgumentException("Unsupported unit: " + unit);
+	}
+
+	long epochMinute() {
+		return (CalendarTable.firstEpochDay(year) + dayOfYear - 1) * MINUTES_PER_DAY + minuteOfDay;
+	}
+
+	/* moves to the next matching minute, returns false once exhausted */
+	boolean advance() {
+		while (!exhausted) {
+			if (schedule.mismatchDate(year, table, dayOfYear) == null) {
+				int next = forward ? nextMinuteOfDay(minuteOfDay) : previousMinuteOfDay(minuteOfDay);
+				if (next >= 0) {
+					minuteOfDay = next;
+					return true;
+				}
+			}
+			if (forward) nextDay();
+			else previousDay();
+		}
+		return false;
+	}
+
+	/* moves to the next matching day, replaying the cached matching days of each year */
+	private void nextDay() {
+		minuteOfDay = -1;
+		short[] days = schedule.matchingDays(table);
+		int index = Arrays.binarySearch(days, (short) dayOfYear);
+		index = index >= 0 ? index + 1 : -index - 1;
+		if (index < days.length && (!schedule.has(MatchingComponent.YEAR) || schedule.get(MatchingComponent.YEAR) == year)) {
+			dayOfYear = days[index];
+			return;
+		}
+		do {
+			int nextYear = year + 1;
+			if (schedule.has(MatchingComponent.YEAR)) {
+				if (schedule.get(MatchingComponent.YEAR) <= year) {
+					exhausted = true;
+					return;
+				}
+				nextYear = schedule.get(MatchingComponent.YEAR); // skip directly to the fixed year
+			}
+			if (nextYear > Year.MAX_VALUE) {
+				exhausted = true;
+				return;
+			}
+			year = nextYear;
+			table = schedule.table(year);
+			days = schedule.matchingDays(table);
+		} while (days.length == 0); // years without match are skipped without looking at their days
+		dayOfYear = days[0];
+	}
+
+	/* moves to the previous matching day, replaying the cached matching days of each year */
+	private void previousDay() {
+		minuteOfDay = MINUTES_PER_DAY;
+		short[] days = schedule.matchingDays(table);
+		int index = Arrays.binarySearch(days, (short) dayOfYear);
+		index = index >= 0 ? index - 1 : -index - 2;
+		if (index >= 0 && (!schedule.has(MatchingComponent.YEAR) || schedule.get(MatchingComponent.YEAR) == year)) {
+			dayOfYear = days[index];
+			return;
+		}
+		do {
+			int previousYear = year - 1;
+			if (schedule.has(MatchingComponent.YEAR)) {
+				if (schedule.get(MatchingComponent.YEAR) >= year) {
+					exhausted = true;
+					return;
+				}
+				previousYear = schedule.get(MatchingComponent.YEAR); // skip directly to the fixed year
+			}
+			if (previousYear < Year.MIN_VALUE) {
+				exhausted = true;
+				return;
+			}
+			year = previousYear;
+			table = schedule.table(year);
+			days = schedule.matchingDays(table);
+		} while (days.length == 0); // years without match are skipped without looking at their days
+		dayOfYear = days[days.length - 1];
+	}
+
+	/* first matching minute of day after the given one, or -1 */
+	private int nextMinuteOfDay(int after) {
+		int next;
+		if (hour >= 0) {
+			next = minute >= 0 ? hour * 60 + minute : Math.max(after + 1, hour * 60);
+			return next > after && next < hour * 60 + 60 ? next : -1;
+		}
+		next = minute >= 0 ? ((after + 1 - minute + 59) / 60) * 60 + minute : after + 1;
+		return next < MINUTES_PER_DAY ? next : -1;
+	}
+
+	/* last matching minute of day before the given one, or -1 */
+	private int previousMinuteOfDay(int before) {
+		int previous;
+		if (hour >= 0) {
+			previous = minute >= 0 ? hour * 60 + minute : Math.min(before - 1, hour * 60 + 59);
+			return previous < before && previous >= hour * 60 ? previous : -1;
+		}
+		previous = minute >= 0 ? Math.floorDiv(before - 1 - minute, 60) * 60 + minute : before - 1;
+		return previous >= 0 ? previous : -1;
+	}
+}
@@ -1,5 +1,8 @@
 package time.enumeration;
 
+import java.time.Year;
+import java.time.temporal.ValueRange;
+
 /**
  * Matching components or time patterns that can be used in the enumeration.
  * <p>
@@ -21,41 +24,56 @@ public enum MatchingComponent {
 	/**
 	 * Year pattern
 	 */
-	YEAR,
+	YEAR(Year.MIN_VALUE, Year.MAX_VALUE),
 	/**
 	 * Month pattern
 	 */
-	MONTH,
+	MONTH(1, 12),
 	/**
 	 * Day pattern
 	 */
-	DAY,
+	DAY(1, 31),
 	/**
 	 * Hour pattern
 	 */
-	HOUR,
+	HOUR(0, 23),
 	/**
 	 * Minute pattern
 	 */
-	MINUTE,
+	MINUTE(0, 59),
 	/**
 	 * Weekday pattern
 	 */
-	WEEKDAY,
+	WEEKDAY(1, 7),
 	/**
 	 * Weekday ordinal pattern
 	 */
-	WEEKDAY_ORDINAL,
+	WEEKDAY_ORDINAL(1, 5),
 	/**
 	 * Quarter pattern
 	 */
-	QUARTER,
+	QUARTER(1, 4),
 	/**
 	 * Week of month pattern
 	 */
-	WEEK_OF_MONTH,
+	WEEK_OF_MONTH(0, 6),
 	/**
 	 * Week on year pattern
 	 */
-	WEEK_OF_YEAR;
+	WEEK_OF_YEAR(0, 54);
+	
+	private final ValueRange range;
+	
+	private MatchingComponent(int minimum, int maximum) {
+		this.range = ValueRange.of(minimum, maximum);
+	}
+	
+	/**
+	 * Gets the range of valid values for the matching component
+	 * 
+	 * @return The range of valid values
+	 */
+	public ValueRange range() {
+		return range;
+	}
 }
@@ -0,0 +1,26 @@
+package time.enumeration;
+
+import java.time.LocalDateTime;
+
+/**
+ * Functional interface for defining code block to be invoked for each interval of consecutive
+ * matching minutes.
+ * <p>
+ * For example, to define a callback code block to print the interval with its matching count:
+ * <pre>{@code
+ * MatchingIntervalCallback matchingIntervalCallback = (matchedCount, start, end) -> {
+ *	System.out.printf("Interval#%d: [%s, %s)\n", matchedCount, start, end);
+ * };
+ * }</pre>
+ */
+@FunctionalInterface
+public interface MatchingIntervalCallback {
+	/**
+	 * Callback function to be invoked for an interval of matching minutes
+	 * 
+	 * @param matchedCount The 1-based counting number of current interval calculates from the beginning of the enumeration
+	 * @param start The first matching minute of the interval, inclusive
+	 * @param end The minute after the last matching minute of the interval, exclusive
+	 */
+	void onMatched(int matchedCount, LocalDateTime start, LocalDateTime end);
+}
@@ -0,0 +1,157 @@
+package time.enumeration;
+
+import java.time.Duration;
+
+/**
+ * Static analysis of a {@link Schedule} that tells, without enumerating, whether the matching
+ * components can match at all and how far apart consecutive matches are.
+ * <p>
+ * Matching components can contradict each other, e.g. {@code month: 2, day: 30} or
+ * {@code quarter: 1, month: 7}, or only be satisfiable in a fixed year that does not contain
+ * the required date. Such patterns are reported as empty so that they can be rejected
+ * before spending time on an enumeration that never ends with a match.
+ * <p>
+ * Apart from the year, every matching component only depends on the leap year flag and the
+ * first day of the year, so without a fixed year the matches repeat with the 400 years
+ * Gregorian cycle. Gaps are measured between consecutive matching minutes over one such
+ * cycle, including the wrap into the next cycle, or over the fixed year otherwise.
+ */
+public final class PatternAnalysis {
+	private static final int MINUTES_PER_DAY = 24 * 60;
+	private static final int DAYS_PER_CYCLE = 146097;
+	private static final int CYCLE_START_YEAR = 2000;
+
+	private final Schedule schedule;
+	private final String reason;
+	private boolean gapsComputed;
+	private Duration minGap;
+	private Duration maxGap;
+
+	private PatternAnalysis(Schedule schedule, String reason) {
+		this.schedule = schedule;
+		this.reason = reason;
+	}
+
+	static PatternAnalysis of(Schedule schedule) {
+		return new PatternAnalysis(schedule, findContradiction(schedule));
+	}
+
+	private static String findContradiction(Schedule schedule) {
+		Integer month = schedule.get(MatchingComponent.MONTH);
+		Integer day = schedule.get(MatchingComponent.DAY);
+		Integer quarter = schedule.get(MatchingComponent.QUARTER);
+		Integer weekday = schedule.get(MatchingComponent.WEEKDAY);
+		Integer weekdayOrdinal = schedule.get(MatchingComponent.WEEKDAY_ORDINAL);
+		if (month != null && quarter != null && (month - 1) / 3 + 1 != quarter) {
+			return String.format("Month %d is not in quarter %d", month, quarter);
+		}
+		if (month != null && day != null && day > (month == 2 ? 29 : month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31)) {
+			return String.format("Month %d has no day %d", month, day);
+		}
+		if (day != null && weekday != null && weekdayOrdinal != null && (day - 1) / 7 + 1 != weekdayOrdinal) {
+			return String.format("Day %d is never weekday ordinal %d", day, weekdayOrdinal);
+		}
+		if (!matchesAnyDay(schedule)) {
+			return schedule.has(MatchingComponent.YEAR)
+					? String.format("No day of year %d matches", schedule.get(MatchingComponent.YEAR))
+					: "No day of any year matches";
+		}
+		return null;
+	}
+
+	private static boolean matchesAnyDay(Schedule schedule) {
+		if (schedule.has(MatchingComponent.YEAR)) {
+			return schedule.matchesAnyDay(schedule.table(schedule.get(MatchingComponent.YEAR)));
+		}
+		for (int type = 0; type < CalendarTable.TYPES; type++) {
+			if (schedule.matchesAnyDay(CalendarTable.ofType(type, schedule.weekFields))) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Check if the schedule can never match
+	 *
+	 * @return True if no date matches the schedule, otherwise False
+	 */
+	public boolean isEmpty() {
+		return reason != null;
+	}
+
+	/**
+	 * Gets the reason why the schedule can never match
+	 *
+	 * @return A description of the contradiction, or {@code null} if the schedule is not empty
+	 */
+	public String getReason() {
+		return reason;
+	}
+
+	/**
+	 * Gets the shortest distance between two consecutive matches
+	 *
+	 * @return The minimum gap, or {@code null} if the schedule has less than two matches
+	 */
+	public Duration getMinGap() {
+		computeGaps();
+		return minGap;
+	}
+
+	/**
+	 * Gets the longest distance between two consecutive matches
+	 *
+	 * @return The maximum gap, or {@code null} if the schedule has less than two matches
+	 */
+	public Duration getMaxGap() {
+		computeGaps();
+		return maxGap;
+	}
+
+	private synchronized void computeGaps() {
+		if (gapsComputed || isEmpty()) return;
+		gapsComputed = true;
+
+		/* matching minutes of a matching day: a single minute, one per hour, or a contiguous run */
+		boolean hasHour = schedule.has(MatchingComponent.HOUR);
+		boolean hasMinute = schedule.has(MatchingComponent.MINUTE);
+		int firstMinuteOfDay = (hasHour ? schedule.get(MatchingComponent.HOUR) * 60 : 0)
+				+ (hasMinute ? schedule.get(MatchingComponent.MINUTE) : 0);
+		int lastMinuteOfDay = (hasHour ? schedule.get(MatchingComponent.HOUR) * 60 : 23 * 60)
+				+ (hasMinute ? schedule.get(MatchingComponent.MINUTE) : 59);
+		long withinDayGap = hasMinute ? (hasHour ? 0 : 60) : 1;
+
+		long minMinutes = withinDayGap > 0 ? withinDayGap : Long.MAX_VALUE;
+		long maxMinutes = withinDayGap;
+		boolean fixedYear = schedule.has(MatchingComponent.YEAR);
+		int year = fixedYear ? schedule.get(MatchingComponent.YEAR) : CYCLE_START_YEAR;
+		int lastYear = fixedYear ? year : CYCLE_START_YEAR + 399;
+		long yearIndex = 0;
+		long firstDay = -1;
+		long previousDay = -1;
+		for (; year <= lastYear; year++) {
+			CalendarTable table = schedule.table(year);
+			for (short dayOfYear : schedule.matchingDays(table)) {
+				long dayIndex = yearIndex + dayOfYear - 1;
+				if (previousDay < 0) {
+					firstDay = dayIndex;
+				}
+				else {
+					long gap = (dayIndex - previousDay) * MINUTES_PER_DAY - lastMinuteOfDay + firstMinuteOfDay;
+					minMinutes = Math.min(minMinutes, gap);
+					maxMinutes = Math.max(maxMinutes, gap);
+				}
+				previousDay = dayIndex;
+			}
+			yearIndex += table.lengthOfYear();
+		}
+		if (!fixedYear) { // the first match of the next cycle follows the last match of this one
+			long gap = (firstDay + DAYS_PER_CYCLE - previousDay) * MINUTES_PER_DAY - lastMinuteOfDay + firstMinuteOfDay;
+			minMinutes = Math.min(minMinutes, gap);
+			maxMinutes = Math.max(maxMinutes, gap);
+		}
+		if (minMinutes != Long.MAX_VALUE) {
+			minGap = Duration.ofMinutes(minMinutes);
+			maxGap = Duration.ofMinutes(maxMinutes);
+		}
+	}
+}
@@ -0,0 +1,343 @@
+package time.enumeration;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.WeekFields;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Represents compiled matching components: an immutable, validated form of the matching
+ * components that can be analyzed and matched without boxing.
+ * <p>
+ * For example, compile the second Monday of each month at 09:30 and check that the pattern
+ * can match at all before enumerating it:
+ * <pre>{@code
+ * EnumMap<MatchingComponent, Integer> matchingComponents = new EnumMap<MatchingComponent, Integer>(MatchingComponent.class);
+ * matchingComponents.put(MatchingComponent.WEEKDAY, 1);
+ * matchingComponents.put(MatchingComponent.WEEKDAY_ORDINAL, 2);
+ * matchingComponents.put(MatchingComponent.HOUR, 9);
+ * matchingComponents.put(MatchingComponent.MINUTE, 30);
+ * Schedule schedule = Schedule.of(matchingComponents);
+ * PatternAnalysis analysis = schedule.analyze();
+ * if (analysis.isEmpty()) {
+ * 	System.out.printf("Rejected: %s\n", analysis.getReason());
+ * }
+ * }</pre>
+ * <p>
+ * The {@code weekday}, {@code weekOfMonth} and {@code weekOfYear} components are read with the
+ * week definition of the schedule, ISO-8601 unless given otherwise, so that {@code weekday} 1
+ * is the first day of its week. For example, with Sunday-first weeks:
+ * <pre>{@code
+ * Schedule schedule = Schedule.of(matchingComponents, WeekFields.of(DayOfWeek.SUNDAY, 1));
+ * }</pre>
+ */
+public final class Schedule {
+	private static final MatchingComponent[] COMPONENTS = MatchingComponent.values();
+	private static final int CYCLE_YEARS = 400;
+	private static final int CYCLE_START_YEAR = 2000;
+
+	final int mask;
+	final int[] values;
+	final WeekFields weekFields;
+	private PatternAnalysis analysis;
+	/* matching days of year by year type, ignoring the year component, filled one year type
+	 * at a time on first use, see matchingDays() */
+	private final AtomicReferenceArray<short[]> matchingDays = new AtomicReferenceArray<short[]>(CalendarTable.TYPES);
+
+	private Schedule(int mask, int[] values, WeekFields weekFields) {
+		this.mask = mask;
+		this.values = values;
+		this.weekFields = weekFields;
+	}
+
+	/**
+	 * Compiles the given matching components with ISO-8601 weeks.
+	 *
+	 * @param matchingComponents Matching components
+	 * @return The compiled schedule
+	 * @throws java.time.DateTimeException if a matching component is out of its {@link MatchingComponent#range() range}
+	 */
+	public static Schedule of(EnumMap<MatchingComponent, Integer> matchingComponents) {
+		return of(matchingComponents, WeekFields.ISO);
+	}
+
+	/**
+	 * Compiles the given matching components with the given week definition.
+	 *
+	 * @param matchingComponents Matching components
+	 * @param weekFields The week definition of the week related components
+	 * @return The compiled schedule
+	 * @throws java.time.DateTimeException if a matching component is out of its {@link MatchingComponent#range() range}
+	 */
+	public static Schedule of(EnumMap<MatchingComponent, Integer> matchingComponents, WeekFields weekFields) {
+		int mask = 0;
+		int[] values = new int[COMPONENTS.length];
+		for (MatchingComponent component : COMPONENTS) {
+			Integer value = matchingComponents.get(component);
+			if (value != null) {
+				mask |= 1 << component.ordinal();
+				values[component.ordinal()] = value;
+			}
+		}
+		return of(mask, values, weekFields);
+	}
+
+	/* compiles a presence mask by component ordinal and values of the present components,
+	 * values of absent components are ignored and the array is owned by the schedule */
+	static Schedule of(int mask, int[] values, WeekFields weekFields) {
+		Objects.requireNonNull(weekFields, "weekFields");
+		for (MatchingComponent component : COMPONENTS) {
+			if ((mask & (1 << component.ordinal())) != 0) {
+				component.range().checkValidIntValue(values[component.ordinal()], null);
+			}
+			else {
+				values[component.ordinal()] = 0;
+			}
+		}
+		return new Schedule(mask & ((1 << COMPONENTS.length) - 1), values, weekFields);
+	}
+
+	/**
+	 * Gets the week definition of the week related matching components
+	 *
+	 * @return The week definition, {@link WeekFields#ISO} unless compiled with another one
+	 */
+	public WeekFields getWeekFields() {
+		return weekFields;
+	}
+
+	/* the shared calendar table of the given year for the week definition of the schedule */
+	CalendarTable table(int year) {
+		return CalendarTable.of(year, weekFields);
+	}
+
+	/**
+	 * Check if the given matching component is part of the schedule
+	 *
+	 * @param component A matching component
+	 * @return True if the component is specified, otherwise False
+	 */
+	public boolean has(MatchingComponent component) {
+		return (mask & (1 << component.ordinal())) != 0;
+	}
+
+	/**
+	 * Gets the value of the given matching component
+	 *
+	 * @param component A matching component
+	 * @return The component value, or {@code null} if the component is not specified
+	 */
+	public Integer get(MatchingComponent component) {
+		return has(component) ? values[component.ordinal()] : null;
+	}
+
+	/**
+	 * Gets the matching components of the schedule
+	 *
+	 * @return A new collection of the matching components
+	 */
+	public EnumMap<MatchingComponent, Integer> toComponents() {
+		EnumMap<MatchingComponent, Integer> matchingComponents = new EnumMap<MatchingComponent, Integer>(MatchingComponent.class);
+		for (MatchingComponent component : COMPONENTS) {
+			if (has(component)) matchingComponents.put(component, values[component.ordinal()]);
+		}
+		return matchingComponents;
+	}
+
+	/**
+	 * Analyzes the schedule for emptiness and distance between matches. The analysis is computed
+	 * once and then reused.
+	 *
+	 * @return The pattern analysis of the schedule
+	 */
+	public PatternAnalysis analyze() {
+		PatternAnalysis result = analysis;
+		if (result == null) {
+			result = PatternAnalysis.of(this);
+			analysis = result;
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the smallest number of years after which the matches of the schedule repeat on the
+	 * same calendar dates. Apart from the year, matching components only depend on the leap
+	 * year flag and the first day of the year, so every schedule without a fixed year repeats
+	 * with the 400 years Gregorian cycle and its period divides 400. It is found by comparing
+	 * the matching dates of the year types of each year of the cycle with those of the same
+	 * year shifted by each divisor of 400.
+	 * <p>
+	 * Between two century years, February 29th repeats every 4 years and a date bound to a day of
+	 * week every 28 years, but 1900, 2100 and 2300 are not leap years and break both cycles, so
+	 * such schedules have a period of 400.
+	 *
+	 * @return The period in years, 1 if every year has the same matching dates, or 0 if the
+	 * schedule has a fixed year and does not repeat
+	 */
+	public int periodInYears() {
+		if (has(MatchingComponent.YEAR)) return 0;
+		int[] types = new int[CYCLE_YEARS];
+		for (int i = 0; i < CYCLE_YEARS; i++) {
+			types[i] = CalendarTable.of(CYCLE_START_YEAR + i, weekFields).type();
+		}
+		short[][] monthDays = new short[CalendarTable.TYPES][];
+		for (int type = 0; type < CalendarTable.TYPES; type++) { // every year type occurs in the cycle
+			monthDays[type] = monthDays(CalendarTable.ofType(type, weekFields));
+		}
+		for (int period = 1; period < CYCLE_YEARS; period++) {
+			if (CYCLE_YEARS % period != 0) continue;
+			boolean repeats = true;
+			for (int i = 0; i < CYCLE_YEARS && repeats; i++) {
+				repeats = Arrays.equals(monthDays[types[i]], monthDays[types[(i + period) % CYCLE_YEARS]]);
+			}
+			if (repeats) return period;
+		}
+		return CYCLE_YEARS;
+	}
+
+	/* matching dates of a year type as 32 * month + day of month */
+	private short[] monthDays(CalendarTable table) {
+		short[] days = matchingDays(table);
+		short[] monthDays = new short[days.length];
+		for (int i = 0; i < days.length; i++) {
+			monthDays[i] = (short) (32 * table.month(days[i]) + table.dayOfMonth(days[i]));
+		}
+		return monthDays;
+	}
+
+	/* ascending days of year of the given year type that match all date components but the
+	 * year. One array per year type describes one whole period of the schedule, so matches
+	 * of any year are replayed from the cache instead of being tested day by day. Each year
+	 * type is only computed when first asked for. */
+	short[] matchingDays(CalendarTable table) {
+		short[] days = matchingDays.get(table.type());
+		if (days == null) {
+			int year = has(MatchingComponent.YEAR) ? values[MatchingComponent.YEAR.ordinal()] : 0;
+			short[] matching = new short[table.lengthOfYear()];
+			int count = 0;
+			for (int dayOfYear = 1; dayOfYear <= table.lengthOfYear(); dayOfYear++) {
+				if (mismatchDate(year, table, dayOfYear) == null) matching[count++] = (short) dayOfYear;
+			}
+			days = Arrays.copyOf(matching, count);
+			matchingDays.compareAndSet(table.type(), null, days);
+		}
+		return days;
+	}
+
+	/* check if any day of the given year type matches all date components but the year,
+	 * stopping at the first match instead of building the matching days */
+	boolean matchesAnyDay(CalendarTable table) {
+		short[] days = matchingDays.get(table.type());
+		if (days != null) return days.length > 0;
+		int year = has(MatchingComponent.YEAR) ? values[MatchingComponent.YEAR.ordinal()] : 0;
+		for (int dayOfYear = 1; dayOfYear <= table.lengthOfYear(); dayOfYear++) {
+			if (mismatchDate(year, table, dayOfYear) == null) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Check if the given date object matches the schedule, ignoring seconds
+	 *
+	 * @param dt A date object
+	 * @return True if match, otherwise False
+	 */
+	public boolean matches(LocalDateTime dt) {
+		return mismatch(dt.getYear(), table(dt.getYear()), dt.getDayOfYear(), dt.getHour(), dt.getMinute()) == null;
+	}
+
+	/**
+	 * Finds the next (or previous) match for each of many date objects in a single sweep. A match
+	 * found for one date object is reused for all following date objects before it, and the
+	 * search for the next match starts from where it is needed, so the cost grows with the number
+	 * of date objects and matches rather than with their product. Like {@link Enumerator}, a
+	 * match is strictly after (or before) its date object, and seconds are ignored.
+	 *
+	 * @param sortedDateTimes Date objects in ascending order, duplicates allowed
+	 * @param matchingDirection A direction of matching enumeration
+	 * @return The match for each date object at the same index, {@code null} where none exists
+	 * @throws IllegalArgumentException if the date objects are not in ascending order
+	 */
+	public LocalDateTime[] nextMatches(LocalDateTime[] sortedDateTimes, MatchingDirection matchingDirection) {
+		boolean forward = matchingDirection == MatchingDirection.FORWARD;
+		LocalDateTime[] matches = new LocalDateTime[sortedDateTimes.length];
+		MatchCursor cursor = null;
+		LocalDateTime match = null;
+		long matchMinute = 0;
+		boolean exhausted = false;
+		for (int n = 0; n < sortedDateTimes.length && !exhausted; n++) {
+			int i = forward ? n : sortedDateTimes.length - 1 - n;
+			LocalDateTime dt = sortedDateTimes[i];
+			if (n > 0 && (forward ? dt.isBefore(sortedDateTimes[i - 1]) : dt.isAfter(sortedDateTimes[i + 1]))) {
+				throw new IllegalArgumentException("Date objects are not in ascending order at index " + i);
+			}
+			long minute = Math.floorDiv(dt.toEpochSecond(ZoneOffset.UTC), 60);
+			if (match == null || (forward ? matchMinute <= minute : matchMinute >= minute)) {
+				if (cursor == null) cursor = new MatchCursor(dt, matchingDirection, this);
+				else cursor.seek(dt);
+				if (cursor.advance()) {
+					matchMinute = cursor.epochMinute();
+					match = LocalDateTime.ofEpochSecond(matchMinute * 60, 0, ZoneOffset.UTC);
+				}
+				else {
+					exhausted = true; // no later (or earlier) date object can match either
+					match = null;
+				}
+			}
+			matches[i] = match;
+		}
+		return matches;
+	}
+
+	private boolean rejects(MatchingComponent component, int value) {
+		return has(component) && values[component.ordinal()] != value;
+	}
+
+	/* returns the first matching component the given minute does not satisfy, or null on match */
+	MatchingComponent mismatch(int year, CalendarTable table, int dayOfYear, int hour, int minute) {
+		if (rejects(MatchingComponent.YEAR, year)) return MatchingComponent.YEAR;
+		if (rejects(MatchingComponent.MONTH, table.month(dayOfYear))) return MatchingComponent.MONTH;
+		if (rejects(MatchingComponent.DAY, table.dayOfMonth(dayOfYear))) return MatchingComponent.DAY;
+		if (rejects(MatchingComponent.HOUR, hour)) return MatchingComponent.HOUR;
+		if (rejects(MatchingComponent.MINUTE, minute)) return MatchingComponent.MINUTE;
+		return mismatchWeek(table, dayOfYear);
+	}
+
+	/* returns the first date matching component the given day does not satisfy, or null on match */
+	MatchingComponent mismatchDate(int year, CalendarTable table, int dayOfYear) {
+		if (rejects(MatchingComponent.YEAR, year)) return MatchingComponent.YEAR;
+		if (rejects(MatchingComponent.MONTH, table.month(dayOfYear))) return MatchingComponent.MONTH;
+		if (rejects(MatchingComponent.DAY, table.dayOfMonth(dayOfYear))) return MatchingComponent.DAY;
+		return mismatchWeek(table, dayOfYear);
+	}
+
+	private MatchingComponent mismatchWeek(CalendarTable table, int dayOfYear) {
+		if (rejects(MatchingComponent.WEEKDAY, table.dayOfWeek(dayOfYear))) return MatchingComponent.WEEKDAY;
+		if (has(MatchingComponent.WEEKDAY) && rejects(MatchingComponent.WEEKDAY_ORDINAL, table.weekdayOrdinal(dayOfYear))) return MatchingComponent.WEEKDAY_ORDINAL;
+		if (rejects(MatchingComponent.QUARTER, table.quarter(dayOfYear))) return MatchingComponent.QUARTER;
+		if (rejects(MatchingComponent.WEEK_OF_MONTH, table.weekOfMonth(dayOfYear))) return MatchingComponent.WEEK_OF_MONTH;
+		if (rejects(MatchingComponent.WEEK_OF_YEAR, table.weekOfYear(dayOfYear))) return MatchingComponent.WEEK_OF_YEAR;
+		return null;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (!(obj instanceof Schedule)) return false;
+		Schedule other = (Schedule) obj;
+		return mask == other.mask && Arrays.equals(values, other.values) && weekFields.equals(other.weekFields);
+	}
+
+	@Override
+	public int hashCode() {
+		return (31 * mask + Arrays.hashCode(values)) * 31 + weekFields.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return weekFields.equals(WeekFields.ISO) ? toComponents().toString() : toComponents() + " " + weekFields;
+	}
+}
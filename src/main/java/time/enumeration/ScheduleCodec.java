@@ -0,0 +1,214 @@
+package time.enumeration;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Compact, versioned binary encoding of {@link ScheduleEntry} objects.
+ * <p>
+ * A file starts with the magic number {@code "TENU"}, a format version ({@code short}) and the
+ * number of entries ({@code int}). Each entry is a {@code short} bit set of the specified matching
+ * components by ordinal, with bit 15 flagging a cursor and bit 14 a week definition other than
+ * ISO-8601; bits 10 to 13 are reserved and must be zero. It is followed by the year as
+ * {@code int} and every other specified component as one byte, in ordinal order. The optional
+ * week definition follows as one byte, the first day of week (1 for Monday to 7 for Sunday) in
+ * the high and the minimal days in the first week in the low four bits. The optional cursor
+ * follows as epoch seconds ({@code long}) of the date read as UTC. All numbers are big endian.
+ * A schedule of hour and minute therefore takes 4 bytes, or 12 bytes with its cursor. Version 1
+ * files, which predate week definitions and may not set bit 14, are still read.
+ * <p>
+ * For example, to persist schedules and restore them on the next start:
+ * <pre>{@code
+ * List<ScheduleEntry> entries = new ArrayList<ScheduleEntry>();
+ * entries.add(new ScheduleEntry(Schedule.of(matchingComponents), nextFire));
+ * ScheduleCodec.write(path, entries);
+ * // ... later, memory-map the file and decode all entries at once
+ * for (ScheduleEntry entry : ScheduleCodec.read(path)) {
+ * 	entry.resume(MatchingDirection.FORWARD, maxNumOfMatches, matchingCallback).enumerate();
+ * }
+ * }</pre>
+ */
+public final class ScheduleCodec {
+	/**
+	 * Magic number at the start of encoded schedules, {@code "TENU"}
+	 */
+	public static final int MAGIC = 0x54454E55;
+	/**
+	 * Current format version
+	 */
+	public static final short VERSION = 2;
+
+	private static final MatchingComponent[] COMPONENTS = MatchingComponent.values();
+	private static final int HEADER_SIZE = 4 + 2 + 4;
+	private static final int CURSOR_FLAG = 1 << 15;
+	private static final int WEEK_FIELDS_FLAG = 1 << 14;
+	private static final int COMPONENT_FLAGS = (1 << COMPONENTS.length) - 1;
+
+	private ScheduleCodec() {
+	}
+
+	/**
+	 * Gets the number of bytes of an encoded entry
+	 * 
+	 * @param entry A schedule entry
+	 * @return Number of bytes written by {@link #encode(ScheduleEntry, ByteBuffer)}
+	 */
+	public static int encodedSize(ScheduleEntry entry) {
+		Schedule schedule = entry.getSchedule();
+		int size = 2 + Integer.bitCount(schedule.mask);
+		if (schedule.has(MatchingComponent.YEAR)) size += 3;
+		if (!schedule.weekFields.equals(WeekFields.ISO)) size += 1;
+		if (entry.getNextFire() != null) size += 8;
+		return size;
+	}
+
+	/**
+	 * Encodes an entry at the position of the buffer
+	 * 
+	 * @param entry A schedule entry
+	 * @param buffer The target buffer with at least {@link #encodedSize(ScheduleEntry)} bytes remaining
+	 */
+	public static void encode(ScheduleEntry entry, ByteBuffer buffer) {
+		Schedule schedule = entry.getSchedule();
+		LocalDateTime nextFire = entry.getNextFire();
+		WeekFields weekFields = schedule.weekFields;
+		boolean iso = weekFields.equals(WeekFields.ISO);
+		buffer.putShort((short) (schedule.mask | (nextFire != null ? CURSOR_FLAG : 0) | (iso ? 0 : WEEK_FIELDS_FLAG)));
+		for (MatchingComponent component : COMPONENTS) {
+			if (!schedule.has(component)) continue;
+			if (component == MatchingComponent.YEAR) buffer.putInt(schedule.values[component.ordinal()]);
+			else buffer.put((byte) schedule.values[component.ordinal()]);
+		}
+		if (!iso) buffer.put((byte) (weekFields.getFirstDayOfWeek().getValue() << 4 | weekFields.getMinimalDaysInFirstWeek()));
+		if (nextFire != null) buffer.putLong(nextFire.toEpochSecond(ZoneOffset.UTC));
+	}
+
+	/**
+	 * Decodes an entry of the current format version at the position of the buffer
+	 * 
+	 * @param buffer The source buffer
+	 * @return The decoded schedule entry
+	 * @throws IOException if the entry is truncated or holds invalid values
+	 */
+	public static ScheduleEntry decode(ByteBuffer buffer) throws IOException {
+		return decode(buffer, VERSION);
+	}
+
+	private static ScheduleEntry decode(ByteBuffer buffer, short version) throws IOException {
+		try {
+			int flags = buffer.getShort() & 0xFFFF;
+			int known = COMPONENT_FLAGS | CURSOR_FLAG | (version >= 2 ? WEEK_FIELDS_FLAG : 0);
+			if ((flags & ~known) != 0) {
+				throw new IOException(String.format("Invalid schedule entry flags 0x%04x", flags));
+			}
+			int[] values = new int[COMPONENTS.length];
+			for (MatchingComponent component : COMPONENTS) {
+				if ((flags & (1 << component.ordinal())) == 0) continue;
+				values[component.ordinal()] = component == MatchingComponent.YEAR ? buffer.getInt() : buffer.get();
+			}
+			WeekFields weekFields = WeekFields.ISO;
+			if ((flags & WEEK_FIELDS_FLAG) != 0) {
+				int week = buffer.get() & 0xFF;
+				int minimalDays = week & 0x0F;
+				if (minimalDays < 1 || minimalDays > 7) {
+					throw new IOException(String.format("Invalid minimal days in first week %d", minimalDays));
+				}
+				weekFields = WeekFields.of(DayOfWeek.of(week >>> 4), minimalDays);
+			}
+			Schedule schedule = Schedule.of(flags & COMPONENT_FLAGS, values, weekFields);
+			LocalDateTime nextFire = (flags & CURSOR_FLAG) != 0
+					? LocalDateTime.ofEpochSecond(buffer.getLong(), 0, ZoneOffset.UTC)
+					: null;
+			return new ScheduleEntry(schedule, nextFire);
+		}
+		catch (BufferUnderflowException e) {
+			throw new IOException("Truncated schedule entry", e);
+		}
+		catch (DateTimeException e) {
+			throw new IOException("Invalid schedule entry", e);
+		}
+	}
+
+	/**
+	 * Encodes entries with a header into a new buffer
+	 * 
+	 * @param entries Schedule entries
+	 * @return A buffer positioned at zero holding the encoded entries
+	 */
+	public static ByteBuffer encodeAll(Collection<ScheduleEntry> entries) {
+		int size = HEADER_SIZE;
+		for (ScheduleEntry entry : entries) size += encodedSize(entry);
+		ByteBuffer buffer = ByteBuffer.allocate(size);
+		buffer.putInt(MAGIC).putShort(VERSION).putInt(entries.size());
+		for (ScheduleEntry entry : entries) encode(entry, buffer);
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * Decodes entries written by {@link #encodeAll(Collection)} from the position of the buffer
+	 * 
+	 * @param buffer The source buffer
+	 * @return The decoded schedule entries in their original order
+	 * @throws IOException if the header is unknown or an entry is invalid
+	 */
+	public static List<ScheduleEntry> decodeAll(ByteBuffer buffer) throws IOException {
+		if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+			throw new IOException("Not an encoded schedule set");
+		}
+		short version = buffer.getShort();
+		if (version < 1 || version > VERSION) {
+			throw new IOException(String.format("Unsupported schedule format version %d", version));
+		}
+		int count = buffer.getInt();
+		if (count < 0 || count > buffer.remaining() / 2) {
+			throw new IOException(String.format("Invalid number of schedule entries %d", count));
+		}
+		List<ScheduleEntry> entries = new ArrayList<ScheduleEntry>(count);
+		for (int i = 0; i < count; i++) entries.add(decode(buffer, version));
+		return entries;
+	}
+
+	/**
+	 * Writes entries to a file, replacing its content
+	 * 
+	 * @param path The target file
+	 * @param entries Schedule entries
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void write(Path path, Collection<ScheduleEntry> entries) throws IOException {
+		ByteBuffer buffer = encodeAll(entries);
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (buffer.hasRemaining()) channel.write(buffer);
+		}
+	}
+
+	/**
+	 * Reads all entries of a file written by {@link #write(Path, Collection)}. The file is
+	 * memory-mapped and decoded in one pass.
+	 * 
+	 * @param path The source file
+	 * @return The decoded schedule entries in their original order
+	 * @throws IOException if the file cannot be read or is not a valid schedule file
+	 */
+	public static List<ScheduleEntry> read(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return decodeAll(buffer);
+		}
+	}
+}
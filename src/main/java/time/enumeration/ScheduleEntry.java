@@ -0,0 +1,86 @@
+package time.enumeration;
+
+import java.time.LocalDateTime;
+
+/**
+ * A {@link Schedule} together with an optional cursor that remembers the next date the
+ * schedule fires, so that a persisted enumeration can be resumed where it stopped.
+ */
+public final class ScheduleEntry {
+	private final Schedule schedule;
+	private final LocalDateTime nextFire;
+
+	/**
+	 * Constructs a schedule entry
+	 * 
+	 * @param schedule Compiled matching components
+	 * @param nextFire The next date the schedule fires, or {@code null} if unknown
+	 */
+	public ScheduleEntry(Schedule schedule, LocalDateTime nextFire) {
+		if (schedule == null) throw new NullPointerException("schedule");
+		this.schedule = schedule;
+		this.nextFire = nextFire != null ? nextFire.withNano(0) : null;
+	}
+
+	/**
+	 * @return Compiled matching components
+	 */
+	public Schedule getSchedule() {
+		return schedule;
+	}
+
+	/**
+	 * @return The next date the schedule fires truncated to seconds, or {@code null} if unknown
+	 */
+	public LocalDateTime getNextFire() {
+		return nextFire;
+	}
+
+	/**
+	 * Returns a copy of this entry with another cursor
+	 * 
+	 * @param nextFire The next date the schedule fires, or {@code null} if unknown
+	 * @return A schedule entry of the same schedule
+	 */
+	public ScheduleEntry withNextFire(LocalDateTime nextFire) {
+		return new ScheduleEntry(schedule, nextFire);
+	}
+
+	/**
+	 * Constructs an enumerator that continues from the cursor, so that its first match is the
+	 * persisted next fire date
+	 * 
+	 * @param matchingDirection A direction of matching enumeration
+	 * @param maxNumOfMatches Maximum number of matching dates
+	 * @param matchingCallback A code block to trigger with each calculated date
+	 * @return A new enumerator
+	 * @throws IllegalStateException if the entry has no cursor
+	 */
+	public Enumerator resume(MatchingDirection matchingDirection, int maxNumOfMatches, MatchingCallback matchingCallback) {
+		if (nextFire == null) throw new IllegalStateException("No next fire cursor to resume from");
+		/* enumeration starts strictly after (or before) its date object, so step back one minute */
+		LocalDateTime matchingDateTime = matchingDirection == MatchingDirection.FORWARD
+				? nextFire.minusMinutes(1)
+				: nextFire.plusMinutes(1);
+		return new Enumerator(matchingDateTime, matchingDirection, schedule, maxNumOfMatches, matchingCallback);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (!(obj instanceof ScheduleEntry)) return false;
+		ScheduleEntry other = (ScheduleEntry) obj;
+		return schedule.equals(other.schedule)
+				&& (nextFire == null ? other.nextFire == null : nextFire.equals(other.nextFire));
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * schedule.hashCode() + (nextFire != null ? nextFire.hashCode() : 0);
+	}
+
+	@Override
+	public String toString() {
+		return schedule + (nextFire != null ? " next " + nextFire : "");
+	}
+}
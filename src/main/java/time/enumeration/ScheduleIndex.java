@@ -0,0 +1,231 @@
+package time.enumeration;
+
+import java.time.LocalDateTime;
+import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index over many {@link Schedule} objects that answers which of them match a given
+ * date object.
+ * <p>
+ * For every matching component and value the index keeps the set of schedules that accept the
+ * value, i.e. schedules with that value and schedules without the component, as a bit set of
+ * schedule positions. A lookup intersects one set per component that any schedule specifies,
+ * reading the week related values of the date from the shared calendar tables, instead of
+ * matching every schedule on its own. Week related components keep one set per week definition
+ * used by the schedules, in which schedules of other week definitions are accepted.
+ * <p>
+ * A lookup starts from the set of the date with the fewest schedules, so it returns without
+ * touching any bit set if one of them is empty, and otherwise ends as soon as the intersection
+ * is. In the worst case, when many schedules accept the date in every component, it costs one
+ * pass over each set, i.e. the number of sets times the number of schedules divided by 64 word
+ * operations, which is still far below matching every schedule but grows with the number of
+ * schedules rather than with the number of matches.
+ * <p>
+ * For example, to dispatch the schedules firing at the current minute:
+ * <pre>{@code
+ * ScheduleIndex index = new ScheduleIndex(schedules);
+ * BitSet firing = index.lookup(LocalDateTime.now());
+ * for (int i = firing.nextSetBit(0); i >= 0; i = firing.nextSetBit(i + 1)) {
+ * 	dispatch(index.get(i));
+ * }
+ * }</pre>
+ * The index is immutable and can be shared by many threads.
+ */
+public final class ScheduleIndex {
+	/* most selective components first, so that intersections become empty early after the
+	 * sparsest set a lookup starts from */
+	private static final MatchingComponent[] LOOKUP_ORDER = {
+			MatchingComponent.MINUTE,
+			MatchingComponent.HOUR,
+			MatchingComponent.DAY,
+			MatchingComponent.WEEKDAY,
+			MatchingComponent.WEEKDAY_ORDINAL,
+			MatchingComponent.WEEK_OF_YEAR,
+			MatchingComponent.MONTH,
+			MatchingComponent.WEEK_OF_MONTH,
+			MatchingComponent.QUARTER };
+
+	private final Schedule[] schedules;
+	/* accepting schedules by value, in lookup order, for the components any schedule specifies */
+	private final List<Postings> postings = new ArrayList<Postings>();
+	/* accepting schedules by fixed year, schedules without a year for any other year */
+	private final Map<Integer, BitSet> yearPostings = new HashMap<Integer, BitSet>();
+	private final BitSet anyYear = new BitSet();
+
+	/**
+	 * Constructs an index of the given schedules. Lookups identify schedules by their position
+	 * in the list.
+	 *
+	 * @param schedules Compiled matching components
+	 */
+	public ScheduleIndex(List<Schedule> schedules) {
+		this.schedules = schedules.toArray(new Schedule[schedules.size()]);
+		for (MatchingComponent component : LOOKUP_ORDER) {
+			/* week related values depend on the week definition, other values are read from ISO tables */
+			Set<WeekFields> definitions = new LinkedHashSet<WeekFields>();
+			for (Schedule schedule : this.schedules) {
+				if (accepts(schedule, component)) definitions.add(isWeekRelated(component) ? schedule.getWeekFields() : WeekFields.ISO);
+			}
+			for (WeekFields weekFields : definitions) {
+				postings.add(new Postings(component, weekFields, this.schedules));
+			}
+		}
+		for (int i = 0; i < this.schedules.length; i++) {
+			if (!this.schedules[i].has(MatchingComponent.YEAR)) anyYear.set(i);
+		}
+		for (int i = 0; i < this.schedules.length; i++) {
+			Integer year = this.schedules[i].get(MatchingComponent.YEAR);
+			if (year == null) continue;
+			BitSet accepting = yearPostings.get(year);
+			if (accepting == null) {
+				accepting = (BitSet) anyYear.clone();
+				yearPostings.put(year, accepting);
+			}
+			accepting.set(i);
+		}
+	}
+
+	/* the weekday ordinal only restricts schedules that also specify the weekday */
+	private static boolean accepts(Schedule schedule, MatchingComponent component) {
+		return schedule.has(component)
+				&& (component != MatchingComponent.WEEKDAY_ORDINAL || schedule.has(MatchingComponent.WEEKDAY));
+	}
+
+	private static boolean isWeekRelated(MatchingComponent component) {
+		return component == MatchingComponent.WEEKDAY
+				|| component == MatchingComponent.WEEK_OF_MONTH
+				|| component == MatchingComponent.WEEK_OF_YEAR;
+	}
+
+	/* accepting schedules of one component and week definition by value minus the minimum of its range */
+	private static final class Postings {
+		final MatchingComponent component;
+		final WeekFields weekFields;
+		final int minimum;
+		final BitSet[] values;
+		/* number of schedules in each set of values */
+		final int[] counts;
+
+		Postings(MatchingComponent component, WeekFields weekFields, Schedule[] schedules) {
+			this.component = component;
+			this.weekFields = weekFields;
+			minimum = (int) component.range().getMinimum();
+			values = new BitSet[(int) component.range().getMaximum() - minimum + 1];
+			BitSet wildcard = new BitSet(schedules.length);
+			for (int i = 0; i < schedules.length; i++) {
+				if (!restricts(schedules[i])) wildcard.set(i);
+			}
+			for (int value = 0; value < values.length; value++) {
+				values[value] = (BitSet) wildcard.clone();
+			}
+			for (int i = 0; i < schedules.length; i++) {
+				if (restricts(schedules[i])) values[schedules[i].get(component) - minimum].set(i);
+			}
+			counts = new int[values.length];
+			for (int value = 0; value < values.length; value++) {
+				counts[value] = values[value].cardinality();
+			}
+		}
+
+		private boolean restricts(Schedule schedule) {
+			return accepts(schedule, component)
+					&& (!isWeekRelated(component) || schedule.getWeekFields().equals(weekFields));
+		}
+	}
+
+	/**
+	 * @return Number of indexed schedules
+	 */
+	public int size() {
+		return schedules.length;
+	}
+
+	/**
+	 * Gets an indexed schedule
+	 *
+	 * @param position Position of the schedule in the indexed list
+	 * @return The schedule
+	 */
+	public Schedule get(int position) {
+		return schedules[position];
+	}
+
+	/**
+	 * Finds the schedules that match the given date object, ignoring seconds
+	 *
+	 * @param dt A date object
+	 * @return Positions of the matching schedules
+	 */
+	public BitSet lookup(LocalDateTime dt) {
+		BitSet result = new BitSet(schedules.length);
+		lookup(dt, result);
+		return result;
+	}
+
+	/**
+	 * Finds the schedules that match the given date object, ignoring seconds, into a reusable
+	 * bit set
+	 *
+	 * @param dt A date object
+	 * @param result Receives the positions of the matching schedules, previous content is cleared
+	 * @return Number of matching schedules
+	 */
+	public int lookup(LocalDateTime dt, BitSet result) {
+		int dayOfYear = dt.getDayOfYear();
+		result.clear();
+		/* start from the sparsest set, an empty one ends the lookup before any intersection */
+		Postings sparsest = null;
+		int sparsestValue = 0;
+		for (Postings posting : postings) {
+			int value = valueOf(posting, dt, dayOfYear);
+			if (sparsest == null || posting.counts[value] < sparsest.counts[sparsestValue]) {
+				sparsest = posting;
+				sparsestValue = value;
+				if (posting.counts[value] == 0) return 0;
+			}
+		}
+		if (sparsest != null) {
+			result.or(sparsest.values[sparsestValue]);
+			for (Postings posting : postings) {
+				if (posting == sparsest) continue;
+				result.and(posting.values[valueOf(posting, dt, dayOfYear)]);
+				if (result.isEmpty()) return 0;
+			}
+		}
+		if (sparsest == null || !yearPostings.isEmpty()) {
+			BitSet accepting = yearPostings.get(dt.getYear());
+			if (accepting == null) accepting = anyYear;
+			if (sparsest != null) result.and(accepting);
+			else result.or(accepting);
+		}
+		return result.cardinality();
+	}
+
+	/* value of the date for the given postings, minus the minimum of the component range */
+	private static int valueOf(Postings posting, LocalDateTime dt, int dayOfYear) {
+		CalendarTable table = CalendarTable.of(dt.getYear(), posting.weekFields);
+		return valueOf(posting.component, dt, table, dayOfYear) - posting.minimum;
+	}
+
+	private static int valueOf(MatchingComponent component, LocalDateTime dt, CalendarTable table, int dayOfYear) {
+		switch (component) {
+		case MONTH: return table.month(dayOfYear);
+		case DAY: return table.dayOfMonth(dayOfYear);
+		case HOUR: return dt.getHour();
+		case MINUTE: return dt.getMinute();
+		case WEEKDAY: return table.dayOfWeek(dayOfYear);
+		case WEEKDAY_ORDINAL: return table.weekdayOrdinal(dayOfYear);
+		case QUARTER: return table.quarter(dayOfYear);
+		case WEEK_OF_MONTH: return table.weekOfMonth(dayOfYear);
+		case WEEK_OF_YEAR: return table.weekOfYear(dayOfYear);
+		default: throw new IllegalArgumentException("Not indexed: " + component);
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package time.enumeration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.time.temporal.WeekFields;
+
+import org.junit.jupiter.api.Test;
+
+class CalendarTableTest {
+
+	@Test
+	void testTableMatchesLocalDate() {
+		System.out.println("testTableMatchesLocalDate - Calendar tables of 1890 to 2110");
+		for (LocalDate date = LocalDate.of(1890, 1, 1); date.getYear() <= 2110; date = date.plusDays(1)) {
+			CalendarTable table = CalendarTable.of(date.getYear());
+			int dayOfYear = date.getDayOfYear();
+			assertEquals(date.lengthOfYear(), table.lengthOfYear());
+			assertEquals(date.toEpochDay() - dayOfYear + 1, CalendarTable.firstEpochDay(date.getYear()));
+			assertEquals(date.getMonthValue(), table.month(dayOfYear), date.toString());
+			assertEquals(date.getDayOfMonth(), table.dayOfMonth(dayOfYear), date.toString());
+			assertEquals(date.get(WeekFields.ISO.dayOfWeek()), table.dayOfWeek(dayOfYear), date.toString());
+			assertEquals(((date.getDayOfMonth() - 1) / 7) + 1, table.weekdayOrdinal(dayOfYear), date.toString());
+			assertEquals(date.get(IsoFields.QUARTER_OF_YEAR), table.quarter(dayOfYear), date.toString());
+			assertEquals(date.get(WeekFields.ISO.weekOfMonth()), table.weekOfMonth(dayOfYear), date.toString());
+			assertEquals(date.get(WeekFields.ISO.weekOfYear()), table.weekOfYear(dayOfYear), date.toString());
+		}
+	}
+
+	@Test
+	void testWeekFieldsTables() {
+		System.out.println("testWeekFieldsTables - Calendar tables of non ISO weeks of 1990 to 2030");
+		for (WeekFields weekFields : new WeekFields[] { WeekFields.SUNDAY_START, WeekFields.of(DayOfWeek.SATURDAY, 7) }) {
+			for (LocalDate date = LocalDate.of(1990, 1, 1); date.getYear() <= 2030; date = date.plusDays(1)) {
+				CalendarTable table = CalendarTable.of(date.getYear(), weekFields);
+				int dayOfYear = date.getDayOfYear();
+				assertEquals(date.getDayOfMonth(), table.dayOfMonth(dayOfYear), date.toString());
+				assertEquals(date.get(weekFields.dayOfWeek()), table.dayOfWeek(dayOfYear), date + " " + weekFields);
+				assertEquals(date.get(weekFields.weekOfMonth()), table.weekOfMonth(dayOfYear), date + " " + weekFields);
+				assertEquals(date.get(weekFields.weekOfYear()), table.weekOfYear(dayOfYear), date + " " + weekFields);
+			}
+		}
+	}
+}
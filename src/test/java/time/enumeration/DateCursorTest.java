@@ -0,0 +1,66 @@
+package time.enumeration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class DateCursorTest {
+
+	@Test
+	void testSecondThursday() {
+		System.out.println("testSecondThursday - Second Thursday of each month after 04/09/2018");
+		EnumMap<MatchingComponent, Integer> matchingComponents =
+				new EnumMap<MatchingComponent, Integer>(MatchingComponent.class);
+		matchingComponents.put(MatchingComponent.WEEKDAY, 4);
+		matchingComponents.put(MatchingComponent.WEEKDAY_ORDINAL, 2);
+		matchingComponents.put(MatchingComponent.HOUR, 9);
+		DateCursor cursor = new DateCursor(LocalDate.of(2018, 9, 4), MatchingDirection.FORWARD, Schedule.of(matchingComponents));
+		List<LocalDate> matches = new ArrayList<LocalDate>();
+		assertEquals(4, cursor.enumerate(4, (matchedCount, matchedValue) -> matches.add(matchedValue)));
+		assertEquals(LocalDate.of(2018, 9, 13), matches.get(0));
+		assertEquals(LocalDate.of(2018, 10, 11), matches.get(1));
+		assertEquals(LocalDate.of(2018, 11, 8), matches.get(2));
+		assertEquals(LocalDate.of(2018, 12, 13), matches.get(3));
+		long[] epochDays = new long[3];
+		assertEquals(3, cursor.next(epochDays, 0, 3));
+		assertEquals(LocalDate.of(2019, 1, 10).toEpochDay(), epochDays[0]);
+		assertEquals(LocalDate.of(2019, 3, 14).toEpochDay(), epochDays[2]);
+
+		matchingComponents.put(MatchingComponent.YEAR, 2018);
+		cursor = new DateCursor(LocalDate.of(2018, 11, 30), MatchingDirection.FORWARD, Schedule.of(matchingComponents));
+		assertEquals(LocalDate.of(2018, 12, 13), cursor.next());
+		assertNull(cursor.next());
+		assertTrue(cursor.isExhausted());
+	}
+
+	@Test
+	void testMatchesDayByDay() {
+		System.out.println("testMatchesDayByDay - Fixture schedules against a day by day scan");
+		LocalDate[] origins = { LocalDate.of(2016, 2, 28), LocalDate.of(2018, 9, 4), LocalDate.of(2018, 12, 31),
+				LocalDate.of(2020, 3, 1) };
+		for (Schedule schedule : ScheduleFixtures.schedules()) {
+			for (LocalDate origin : origins) {
+				for (MatchingDirection direction : MatchingDirection.values()) {
+					List<LocalDate> expected = new ArrayList<LocalDate>();
+					for (int day = 1; day <= 3000 && expected.size() < 30; day++) {
+						LocalDate date = direction == MatchingDirection.FORWARD ? origin.plusDays(day) : origin.minusDays(day);
+						if (schedule.mismatchDate(date.getYear(), schedule.table(date.getYear()), date.getDayOfYear()) == null) {
+							expected.add(date);
+						}
+					}
+					DateCursor cursor = new DateCursor(origin, direction, schedule);
+					List<LocalDate> matches = new ArrayList<LocalDate>();
+					for (int k = 0; k < expected.size(); k++) matches.add(cursor.next());
+					assertEquals(expected, matches, schedule + " " + direction + " from " + origin);
+				}
+			}
+		}
+	}
+}
@@ -1,13 +1,18 @@
 package time.enumeration;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.WeekFields;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -211,4 +216,102 @@ class EnumeratorTest {
 		int countOfMatches = enumerator.enumerate();
 		System.out.printf("Total of matched dates was %d\n", countOfMatches);
 	}
+	
+	@Test
+	void testEnumerateMetrics() {
+		System.out.println("testEnumerateMetrics - Counters of every Monday in September 2018");
+		LocalDateTime matchingDateTime = LocalDateTime.of(LocalDate.of(2018, 9, 4), LocalTime.of(11, 06));
+		EnumMap<MatchingComponent, Integer> matchingComponents = 
+				new EnumMap<MatchingComponent, Integer>(MatchingComponent.class);
+		matchingComponents.put(MatchingComponent.YEAR, 2018);
+		matchingComponents.put(MatchingComponent.MONTH, 9);
+		matchingComponents.put(MatchingComponent.MINUTE, 30);
+		matchingComponents.put(MatchingComponent.WEEKDAY, 1);
+		List<LocalDateTime> matches = new ArrayList<LocalDateTime>();
+		Enumerator enumerator = new Enumerator(matchingDateTime, MatchingDirection.FORWARD, matchingComponents, 200,
+				(matchedCount, matchedValue) -> matches.add(matchedValue));
+		EnumeratorMetrics metrics = new EnumeratorMetrics();
+		enumerator.setMetrics(metrics);
+		int countOfMatches = enumerator.enumerate();
+		System.out.printf("Tested:%d Rejected:%s Rollovers:%s Nanos:%d\n", metrics.getCandidatesTested(),
+				metrics.getCandidatesRejected(), metrics.getRollovers(), metrics.getEnumerationNanos());
+		assertEquals(72, countOfMatches);
+		assertEquals(1, metrics.getEnumerations());
+		assertEquals(72, metrics.getMatches());
+		long rejected = 0;
+		for (MatchingComponent component : MatchingComponent.values()) {
+			rejected += metrics.getCandidatesRejected(component);
+		}
+		assertEquals(metrics.getCandidatesTested(), 72 + rejected); // every match was tested, the first one included
+		assertTrue(metrics.getRollovers(MatchingComponent.HOUR) > 0);
+		// every candidate of a matching year, month and minute reads its weekday from the tables
+		assertTrue(metrics.getCalendarTableHits() > 0);
+		assertTrue(metrics.getCalendarTableHits() <= metrics.getCandidatesTested());
+		// September 2018 has no more match, a second call must not emit the last match again
+		assertEquals(72, enumerator.enumerate());
+		assertEquals(2, metrics.getEnumerations());
+		assertEquals(72, matches.size());
+		assertEquals(72, metrics.getMatches());
+		metrics.reset();
+		assertEquals(0, metrics.getCandidatesTested());
+		assertEquals(0, metrics.getCalendarTableHits());
+		
+		matchingComponents.put(MatchingComponent.DAY, 31); // September has no day 31
+		enumerator = new Enumerator(matchingDateTime, MatchingDirection.FORWARD, matchingComponents, 200, null);
+		enumerator.setMetrics(metrics);
+		assertEquals(0, enumerator.enumerate());
+		assertEquals(1, metrics.getEnumerations());
+		assertEquals(0, metrics.getMatches());
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.YEAR, 2019); // not a leap year
+		matchingComponents.put(MatchingComponent.MONTH, 2);
+		matchingComponents.put(MatchingComponent.DAY, 29);
+		enumerator = new Enumerator(matchingDateTime, MatchingDirection.FORWARD, matchingComponents, 200, null);
+		enumerator.setMetrics(metrics);
+		assertEquals(0, enumerator.enumerate());
+		assertEquals(2, metrics.getEnumerations());
+		assertEquals(0, metrics.getMatches());
+	}
+
+	@Test
+	void testEnumerateFirstCandidate() {
+		System.out.println("testEnumerateFirstCandidate - Mondays of the 5th week of June after 01/12/2021");
+		LocalDateTime matchingDateTime = LocalDateTime.of(LocalDate.of(2021, 12, 1), LocalTime.of(14, 59));
+		EnumMap<MatchingComponent, Integer> matchingComponents = 
+				new EnumMap<MatchingComponent, Integer>(MatchingComponent.class);
+		matchingComponents.put(MatchingComponent.MONTH, 6);
+		matchingComponents.put(MatchingComponent.WEEKDAY, 1);
+		matchingComponents.put(MatchingComponent.WEEK_OF_MONTH, 5);
+		List<LocalDateTime> matches = new ArrayList<LocalDateTime>();
+		Enumerator enumerator = new Enumerator(matchingDateTime, MatchingDirection.FORWARD, matchingComponents, 2,
+				(matchedCount, matchedValue) -> matches.add(matchedValue));
+		assertEquals(2, enumerator.enumerate());
+		// the first candidate, Monday 06/12/2021, is positioned by weekday only and is not a match
+		assertEquals(LocalDateTime.of(2022, 6, 27, 0, 0), matches.get(0));
+		assertEquals(LocalDateTime.of(2022, 6, 27, 0, 1), matches.get(1));
+	}
+
+	@Test
+	void testEnumerateWeekFields() {
+		System.out.println("testEnumerateWeekFields - Every first weekday of week 36 of 2018 in Sunday first weeks");
+		LocalDateTime matchingDateTime = LocalDateTime.of(LocalDate.of(2018, 1, 1), LocalTime.of(0, 0));
+		EnumMap<MatchingComponent, Integer> matchingComponents = 
+				new EnumMap<MatchingComponent, Integer>(MatchingComponent.class);
+		matchingComponents.put(MatchingComponent.YEAR, 2018);
+		matchingComponents.put(MatchingComponent.WEEK_OF_YEAR, 36);
+		matchingComponents.put(MatchingComponent.WEEKDAY, 1);
+		matchingComponents.put(MatchingComponent.HOUR, 9);
+		matchingComponents.put(MatchingComponent.MINUTE, 30);
+		List<LocalDateTime> matches = new ArrayList<LocalDateTime>();
+		Enumerator enumerator = new Enumerator(matchingDateTime, MatchingDirection.FORWARD, matchingComponents,
+				WeekFields.of(DayOfWeek.SUNDAY, 1), 10, (matchedCount, matchedValue) -> matches.add(matchedValue));
+		assertEquals(1, enumerator.enumerate());
+		assertEquals(LocalDateTime.of(2018, 9, 2, 9, 30), matches.get(0)); // a Sunday, Monday 3rd in ISO weeks
+		matches.clear();
+		enumerator = new Enumerator(matchingDateTime, MatchingDirection.FORWARD, matchingComponents,
+				10, (matchedCount, matchedValue) -> matches.add(matchedValue));
+		assertEquals(1, enumerator.enumerate());
+		assertEquals(LocalDateTime.of(2018, 9, 3, 9, 30), matches.get(0));
+	}
 }
@@ -0,0 +1,45 @@
+package time.enumeration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class FiringForecastTest {
+
+	@Test
+	void testForecast() {
+		System.out.println("testForecast - Fixture schedules against counting their matches");
+		List<Schedule> schedules = ScheduleFixtures.schedules();
+		LocalDateTime start = LocalDateTime.of(2018, 12, 29, 10, 17, 42);
+		assertForecast(schedules, start, 3 * 24 * 60, ChronoUnit.MINUTES);
+		assertForecast(schedules, start, 30 * 24, ChronoUnit.HOURS);
+		assertForecast(schedules, start, 400, ChronoUnit.DAYS);
+	}
+
+	private static void assertForecast(List<Schedule> schedules, LocalDateTime start, int numOfBuckets, ChronoUnit unit) {
+		LocalDateTime first = start.truncatedTo(ChronoUnit.MINUTES);
+		LocalDateTime end = first.plus(numOfBuckets, unit);
+		long[] expected = new long[numOfBuckets];
+		for (Schedule schedule : schedules) {
+			long[] expectedOfSchedule = new long[numOfBuckets];
+			MatchCursor cursor = new MatchCursor(first.minusMinutes(1), MatchingDirection.FORWARD, schedule);
+			for (LocalDateTime dt = cursor.next(); dt != null && dt.isBefore(end); dt = cursor.next()) {
+				expectedOfSchedule[(int) unit.between(first, dt)]++;
+			}
+			long[] counts = FiringForecast.histogram(Collections.singletonList(schedule), start, numOfBuckets, unit);
+			for (int i = 0; i < numOfBuckets; i++) {
+				assertEquals(expectedOfSchedule[i], counts[i], schedule + " at " + first.plus(i, unit) + " " + unit);
+				expected[i] += expectedOfSchedule[i];
+			}
+		}
+		long[] counts = FiringForecast.histogram(schedules, start, numOfBuckets, unit);
+		for (int i = 0; i < numOfBuckets; i++) {
+			assertEquals(expected[i], counts[i], first.plus(i, unit) + " " + unit);
+		}
+	}
+}
@@ -0,0 +1,161 @@
+package time.enumeration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class MatchCursorTest {
+	private static EnumMap<MatchingComponent, Integer> everyMondayInSeptember2018() {
+		EnumMap<MatchingComponent, Integer> matchingComponents = 
+				new EnumMap<MatchingComponent, Integer>(MatchingComponent.class);
+		matchingComponents.put(MatchingComponent.YEAR, 2018);
+		matchingComponents.put(MatchingComponent.MONTH, 9);
+		matchingComponents.put(MatchingComponent.MINUTE, 30);
+		matchingComponents.put(MatchingComponent.WEEKDAY, 1);
+		return matchingComponents;
+	}
+
+	private static List<LocalDateTime> enumerate(LocalDateTime matchingDateTime, MatchingDirection matchingDirection,
+			EnumMap<MatchingComponent, Integer> matchingComponents, int maxNumOfMatches) {
+		List<LocalDateTime> matchedDateTimes = new ArrayList<LocalDateTime>();
+		new Enumerator(matchingDateTime, matchingDirection, matchingComponents, maxNumOfMatches,
+				(matchedCount, matchedValue) -> matchedDateTimes.add(matchedValue)).enumerate();
+		return matchedDateTimes;
+	}
+
+	@Test
+	void testNextIntoArray() {
+		System.out.println("testNextIntoArray - Every Monday in September 2018 as epoch minutes");
+		LocalDateTime matchingDateTime = LocalDateTime.of(LocalDate.of(2018, 9, 4), LocalTime.of(11, 06));
+		EnumMap<MatchingComponent, Integer> matchingComponents = everyMondayInSeptember2018();
+		List<LocalDateTime> expected = enumerate(matchingDateTime, MatchingDirection.FORWARD, matchingComponents, 200);
+		MatchCursor cursor = new MatchCursor(matchingDateTime, MatchingDirection.FORWARD, Schedule.of(matchingComponents));
+		long[] matches = new long[200];
+		int count = 0;
+		for (int written; (written = cursor.next(matches, count, Math.min(50, matches.length - count), ChronoUnit.MINUTES)) > 0; ) {
+			count += written;
+		}
+		assertTrue(cursor.isExhausted());
+		assertEquals(expected.size(), count);
+		for (int i = 0; i < count; i++) {
+			assertEquals(expected.get(i).toEpochSecond(ZoneOffset.UTC) / 60, matches[i]);
+		}
+	}
+
+	@Test
+	void testNextIntoBuffer() {
+		System.out.println("testNextIntoBuffer - Yearly occurrences backward as epoch seconds");
+		LocalDateTime matchingDateTime = LocalDateTime.of(LocalDate.of(2018, 9, 4), LocalTime.of(11, 06));
+		EnumMap<MatchingComponent, Integer> matchingComponents = 
+				new EnumMap<MatchingComponent, Integer>(MatchingComponent.class);
+		matchingComponents.put(MatchingComponent.MONTH, 9);
+		matchingComponents.put(MatchingComponent.DAY, 4);
+		matchingComponents.put(MatchingComponent.HOUR, 11);
+		matchingComponents.put(MatchingComponent.MINUTE, 6);
+		MatchCursor cursor = new MatchCursor(matchingDateTime, MatchingDirection.BACKWARD, Schedule.of(matchingComponents));
+		ByteBuffer buffer = ByteBuffer.allocateDirect(8 * 3);
+		assertEquals(3, cursor.next(buffer, ChronoUnit.SECONDS));
+		assertEquals(0, cursor.next(buffer, ChronoUnit.SECONDS));
+		buffer.flip();
+		for (int years = 1; years <= 3; years++) {
+			assertEquals(matchingDateTime.minusYears(years).toEpochSecond(ZoneOffset.UTC), buffer.getLong());
+		}
+		assertEquals(matchingDateTime.minusYears(4), cursor.next());
+	}
+
+	@Test
+	void testEnumerateIntervals() {
+		System.out.println("testEnumerateIntervals - Every Monday in September 2018 as intervals");
+		LocalDateTime matchingDateTime = LocalDateTime.of(LocalDate.of(2018, 9, 4), LocalTime.of(11, 06));
+		EnumMap<MatchingComponent, Integer> matchingComponents = everyMondayInSeptember2018();
+		matchingComponents.remove(MatchingComponent.MINUTE);
+		MatchCursor cursor = new MatchCursor(matchingDateTime, MatchingDirection.FORWARD, Schedule.of(matchingComponents));
+		List<LocalDateTime> bounds = new ArrayList<LocalDateTime>();
+		MatchingIntervalCallback matchingIntervalCallback = (matchedCount, start, end) -> {
+			bounds.add(start);
+			bounds.add(end);
+			System.out.printf("Interval#%d: [%s, %s)\n", matchedCount, start, end);
+		};
+		assertEquals(3, cursor.enumerateIntervals(LocalDateTime.of(2019, 1, 1, 0, 0), 200, matchingIntervalCallback));
+		for (int i = 0; i < 3; i++) {
+			assertEquals(LocalDateTime.of(2018, 9, 10 + 7 * i, 0, 0), bounds.get(2 * i));
+			assertEquals(LocalDateTime.of(2018, 9, 11 + 7 * i, 0, 0), bounds.get(2 * i + 1));
+		}
+
+		System.out.println("testEnumerateIntervals - September 2018 backward, clipped");
+		matchingComponents.remove(MatchingComponent.WEEKDAY);
+		cursor = new MatchCursor(matchingDateTime, MatchingDirection.BACKWARD, Schedule.of(matchingComponents));
+		bounds.clear();
+		assertEquals(1, cursor.enumerateIntervals(LocalDateTime.of(2018, 9, 2, 12, 0), 200, matchingIntervalCallback));
+		assertEquals(LocalDateTime.of(2018, 9, 2, 12, 0), bounds.get(0));
+		assertEquals(LocalDateTime.of(2018, 9, 4, 11, 6), bounds.get(1));
+		assertEquals(LocalDateTime.of(2018, 9, 2, 11, 59), cursor.next());
+	}
+
+	@Test
+	void testNextMatches() {
+		System.out.println("testNextMatches - Second Monday of a month at 09:30 for many date objects");
+		EnumMap<MatchingComponent, Integer> matchingComponents = 
+				new EnumMap<MatchingComponent, Integer>(MatchingComponent.class);
+		matchingComponents.put(MatchingComponent.HOUR, 9);
+		matchingComponents.put(MatchingComponent.MINUTE, 30);
+		matchingComponents.put(MatchingComponent.WEEKDAY, 1);
+		matchingComponents.put(MatchingComponent.WEEKDAY_ORDINAL, 2);
+		Schedule schedule = Schedule.of(matchingComponents);
+		Random random = new Random(2018);
+		LocalDateTime[] matchingDateTimes = new LocalDateTime[5000];
+		for (int i = 0; i < matchingDateTimes.length; i++) {
+			matchingDateTimes[i] = LocalDateTime.of(2018, 9, 4, 11, 6, random.nextInt(60)).plusMinutes(random.nextInt(5 * 365 * 24 * 60));
+		}
+		matchingDateTimes[1] = LocalDateTime.of(2018, 10, 8, 9, 30);
+		matchingDateTimes[2] = matchingDateTimes[1];
+		Arrays.sort(matchingDateTimes);
+		for (MatchingDirection matchingDirection : MatchingDirection.values()) {
+			LocalDateTime[] matches = schedule.nextMatches(matchingDateTimes, matchingDirection);
+			for (int i = 0; i < matchingDateTimes.length; i++) {
+				assertEquals(new MatchCursor(matchingDateTimes[i], matchingDirection, schedule).next(), matches[i]);
+			}
+		}
+		EnumMap<MatchingComponent, Integer> once = new EnumMap<MatchingComponent, Integer>(matchingComponents);
+		once.put(MatchingComponent.YEAR, 2019);
+		LocalDateTime[] matches = Schedule.of(once).nextMatches(matchingDateTimes, MatchingDirection.FORWARD);
+		assertNull(matches[matches.length - 1]);
+	}
+
+	@Test
+	void testPeriodicReplay() {
+		System.out.println("testPeriodicReplay - Far future February 29th on a Saturday");
+		EnumMap<MatchingComponent, Integer> matchingComponents = 
+				new EnumMap<MatchingComponent, Integer>(MatchingComponent.class);
+		matchingComponents.put(MatchingComponent.MONTH, 2);
+		matchingComponents.put(MatchingComponent.DAY, 29);
+		matchingComponents.put(MatchingComponent.WEEKDAY, 6);
+		matchingComponents.put(MatchingComponent.HOUR, 12);
+		matchingComponents.put(MatchingComponent.MINUTE, 0);
+		MatchCursor cursor = new MatchCursor(LocalDateTime.of(900000, 1, 1, 0, 0), MatchingDirection.FORWARD,
+				Schedule.of(matchingComponents));
+		long[] matches = new long[100];
+		assertEquals(matches.length, cursor.next(matches, 0, matches.length, ChronoUnit.MINUTES));
+		LocalDate expected = LocalDate.of(899999, 1, 1);
+		for (long match : matches) {
+			do {
+				expected = expected.plusYears(1).withMonth(2).withDayOfMonth(28).plusDays(1);
+			} while (expected.getDayOfMonth() != 29 || expected.getDayOfWeek().getValue() != 6);
+			assertEquals(expected.atTime(12, 0).toEpochSecond(ZoneOffset.UTC) / 60, match);
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package time.enumeration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ScheduleCodecTest {
+
+	@Test
+	void testCodecRoundTrip() throws IOException {
+		System.out.println("testCodecRoundTrip - 100000 schedules through a memory-mapped file");
+		List<ScheduleEntry> entries = new ArrayList<ScheduleEntry>();
+		for (int i = 0; i < 100000; i++) {
+			EnumMap<MatchingComponent, Integer> matchingComponents =
+					new EnumMap<MatchingComponent, Integer>(MatchingComponent.class);
+			if (i % 2 == 0) {
+				matchingComponents.put(MatchingComponent.HOUR, i % 24);
+				matchingComponents.put(MatchingComponent.MINUTE, i % 60);
+			}
+			else {
+				matchingComponents.put(MatchingComponent.YEAR, 1900 + i % 300);
+				matchingComponents.put(MatchingComponent.MONTH, 1 + i % 12);
+				matchingComponents.put(MatchingComponent.WEEKDAY, 1 + i % 7);
+				matchingComponents.put(MatchingComponent.WEEKDAY_ORDINAL, 1 + i % 4);
+			}
+			Schedule schedule = i % 5 == 0
+					? Schedule.of(matchingComponents, WeekFields.of(DayOfWeek.of(1 + i % 7), 1 + i % 7))
+					: Schedule.of(matchingComponents);
+			entries.add(new ScheduleEntry(schedule, i % 3 == 0 ? null : LocalDateTime.of(2018, 9, 4, 11, 6).plusMinutes(i)));
+		}
+		Path path = Files.createTempFile("schedules", ".bin");
+		try {
+			ScheduleCodec.write(path, entries);
+			long start = System.nanoTime();
+			List<ScheduleEntry> decoded = ScheduleCodec.read(path);
+			System.out.printf("Loaded %d schedules of %d bytes in %d ms\n", decoded.size(), Files.size(path),
+					(System.nanoTime() - start) / 1000000);
+			assertEquals(entries, decoded);
+		}
+		finally {
+			Files.delete(path);
+		}
+		ByteBuffer corrupted = ScheduleCodec.encodeAll(entries.subList(0, 1));
+		corrupted.put(5, (byte) (ScheduleCodec.VERSION + 1));
+		assertThrows(IOException.class, () -> ScheduleCodec.decodeAll(corrupted));
+	}
+
+	@Test
+	void testInvalidFlags() throws IOException {
+		System.out.println("testInvalidFlags - Reserved bits and week definitions in version 1 files");
+		EnumMap<MatchingComponent, Integer> matchingComponents =
+				new EnumMap<MatchingComponent, Integer>(MatchingComponent.class);
+		matchingComponents.put(MatchingComponent.HOUR, 9);
+		matchingComponents.put(MatchingComponent.WEEKDAY, 1);
+		List<ScheduleEntry> entries = new ArrayList<ScheduleEntry>();
+		entries.add(new ScheduleEntry(Schedule.of(matchingComponents), null));
+
+		ByteBuffer reserved = ScheduleCodec.encodeAll(entries);
+		reserved.put(10, (byte) (reserved.get(10) | 0x04)); // bit 10 of the flags of the first entry
+		assertThrows(IOException.class, () -> ScheduleCodec.decodeAll(reserved));
+
+		ByteBuffer version1 = ScheduleCodec.encodeAll(entries);
+		version1.putShort(4, (short) 1);
+		assertEquals(entries, ScheduleCodec.decodeAll(version1));
+
+		entries.set(0, new ScheduleEntry(Schedule.of(matchingComponents, WeekFields.SUNDAY_START), null));
+		ByteBuffer weekFields = ScheduleCodec.encodeAll(entries);
+		assertEquals(entries, ScheduleCodec.decodeAll(weekFields.duplicate()));
+		weekFields.putShort(4, (short) 1);
+		assertThrows(IOException.class, () -> ScheduleCodec.decodeAll(weekFields));
+	}
+}
@@ -0,0 +1,30 @@
+package time.enumeration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ScheduleEntryTest {
+
+	@Test
+	void testResume() {
+		System.out.println("testResume - Every 04/09 11:06 from the stored next fire date");
+		EnumMap<MatchingComponent, Integer> matchingComponents =
+				new EnumMap<MatchingComponent, Integer>(MatchingComponent.class);
+		matchingComponents.put(MatchingComponent.MONTH, 9);
+		matchingComponents.put(MatchingComponent.DAY, 4);
+		matchingComponents.put(MatchingComponent.HOUR, 11);
+		matchingComponents.put(MatchingComponent.MINUTE, 6);
+		ScheduleEntry entry = new ScheduleEntry(Schedule.of(matchingComponents), LocalDateTime.of(2019, 9, 4, 11, 6));
+		List<LocalDateTime> matchedDateTimes = new ArrayList<LocalDateTime>();
+		entry.resume(MatchingDirection.FORWARD, 2, (matchedCount, matchedValue) -> matchedDateTimes.add(matchedValue))
+				.enumerate();
+		assertEquals(LocalDateTime.of(2019, 9, 4, 11, 6), matchedDateTimes.get(0));
+		assertEquals(LocalDateTime.of(2020, 9, 4, 11, 6), matchedDateTimes.get(1));
+	}
+}
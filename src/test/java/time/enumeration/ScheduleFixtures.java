@@ -0,0 +1,148 @@
+package time.enumeration;
+
+import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+
+/**
+ * Fixed schedules covering every matching component, both week definitions, fixed years around
+ * 2018 and patterns that never match, for tests that compare a fast path with matching each
+ * schedule on its own.
+ */
+final class ScheduleFixtures {
+
+	private ScheduleFixtures() {
+	}
+
+	static List<Schedule> schedules() {
+		List<Schedule> schedules = new ArrayList<Schedule>();
+		EnumMap<MatchingComponent, Integer> matchingComponents =
+				new EnumMap<MatchingComponent, Integer>(MatchingComponent.class);
+		schedules.add(Schedule.of(matchingComponents)); // every minute
+
+		matchingComponents.put(MatchingComponent.MINUTE, 30); // every hour at minute 30
+		schedules.add(Schedule.of(matchingComponents));
+		matchingComponents.put(MatchingComponent.HOUR, 9); // every day at 09:30
+		schedules.add(Schedule.of(matchingComponents));
+		matchingComponents.put(MatchingComponent.WEEKDAY, 1); // every Monday at 09:30
+		schedules.add(Schedule.of(matchingComponents));
+		schedules.add(Schedule.of(matchingComponents, WeekFields.SUNDAY_START)); // every Sunday at 09:30
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.HOUR, 23); // every minute of the last hour of a day
+		schedules.add(Schedule.of(matchingComponents));
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.WEEKDAY, 4); // second Thursday of a month at 09:xx
+		matchingComponents.put(MatchingComponent.WEEKDAY_ORDINAL, 2);
+		matchingComponents.put(MatchingComponent.HOUR, 9);
+		schedules.add(Schedule.of(matchingComponents));
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.WEEKDAY, 5); // fifth Friday of a month at 17:00
+		matchingComponents.put(MatchingComponent.WEEKDAY_ORDINAL, 5);
+		matchingComponents.put(MatchingComponent.HOUR, 17);
+		matchingComponents.put(MatchingComponent.MINUTE, 0);
+		schedules.add(Schedule.of(matchingComponents));
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.WEEKDAY_ORDINAL, 3); // ignored without a weekday: every hour
+		matchingComponents.put(MatchingComponent.MINUTE, 0);
+		schedules.add(Schedule.of(matchingComponents));
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.MONTH, 2); // leap day at noon
+		matchingComponents.put(MatchingComponent.DAY, 29);
+		matchingComponents.put(MatchingComponent.HOUR, 12);
+		matchingComponents.put(MatchingComponent.MINUTE, 0);
+		schedules.add(Schedule.of(matchingComponents));
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.MONTH, 9); // every 04/09 at 11:06
+		matchingComponents.put(MatchingComponent.DAY, 4);
+		matchingComponents.put(MatchingComponent.HOUR, 11);
+		matchingComponents.put(MatchingComponent.MINUTE, 6);
+		schedules.add(Schedule.of(matchingComponents));
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.DAY, 31); // midnight of months with 31 days
+		matchingComponents.put(MatchingComponent.HOUR, 0);
+		matchingComponents.put(MatchingComponent.MINUTE, 0);
+		schedules.add(Schedule.of(matchingComponents));
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.QUARTER, 3); // 15th of July, August and September at xx:45
+		matchingComponents.put(MatchingComponent.DAY, 15);
+		matchingComponents.put(MatchingComponent.MINUTE, 45);
+		schedules.add(Schedule.of(matchingComponents));
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.QUARTER, 4); // Sundays of the last quarter at 10:00
+		matchingComponents.put(MatchingComponent.WEEKDAY, 7);
+		matchingComponents.put(MatchingComponent.HOUR, 10);
+		matchingComponents.put(MatchingComponent.MINUTE, 0);
+		schedules.add(Schedule.of(matchingComponents));
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.WEEK_OF_YEAR, 36); // Sunday of week 36 in Sunday first weeks
+		matchingComponents.put(MatchingComponent.WEEKDAY, 1);
+		matchingComponents.put(MatchingComponent.HOUR, 9);
+		matchingComponents.put(MatchingComponent.MINUTE, 30);
+		schedules.add(Schedule.of(matchingComponents, WeekFields.SUNDAY_START));
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.WEEK_OF_YEAR, 0); // days of January before week 1 at 06:00
+		matchingComponents.put(MatchingComponent.HOUR, 6);
+		matchingComponents.put(MatchingComponent.MINUTE, 0);
+		schedules.add(Schedule.of(matchingComponents));
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.WEEK_OF_YEAR, 53); // days of December after week 52 at 18:15
+		matchingComponents.put(MatchingComponent.HOUR, 18);
+		matchingComponents.put(MatchingComponent.MINUTE, 15);
+		schedules.add(Schedule.of(matchingComponents, WeekFields.SUNDAY_START));
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.WEEK_OF_MONTH, 0); // Saturdays before the first Sunday of a month
+		matchingComponents.put(MatchingComponent.WEEKDAY, 7);
+		matchingComponents.put(MatchingComponent.HOUR, 8);
+		matchingComponents.put(MatchingComponent.MINUTE, 0);
+		schedules.add(Schedule.of(matchingComponents, WeekFields.SUNDAY_START));
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.MONTH, 6); // Mondays of the 5th week of June at midnight
+		matchingComponents.put(MatchingComponent.WEEK_OF_MONTH, 5);
+		matchingComponents.put(MatchingComponent.WEEKDAY, 1);
+		matchingComponents.put(MatchingComponent.HOUR, 0);
+		matchingComponents.put(MatchingComponent.MINUTE, 0);
+		schedules.add(Schedule.of(matchingComponents));
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.YEAR, 2018); // every evening of December 2018 at 23:59
+		matchingComponents.put(MatchingComponent.MONTH, 12);
+		matchingComponents.put(MatchingComponent.HOUR, 23);
+		matchingComponents.put(MatchingComponent.MINUTE, 59);
+		schedules.add(Schedule.of(matchingComponents));
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.YEAR, 2019); // once, at the start of 2019
+		matchingComponents.put(MatchingComponent.MONTH, 1);
+		matchingComponents.put(MatchingComponent.DAY, 1);
+		matchingComponents.put(MatchingComponent.HOUR, 0);
+		matchingComponents.put(MatchingComponent.MINUTE, 0);
+		schedules.add(Schedule.of(matchingComponents));
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.YEAR, 2019); // never, 2019 is not a leap year
+		matchingComponents.put(MatchingComponent.MONTH, 2);
+		matchingComponents.put(MatchingComponent.DAY, 29);
+		schedules.add(Schedule.of(matchingComponents));
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.MONTH, 2); // never, February has no 30th
+		matchingComponents.put(MatchingComponent.DAY, 30);
+		schedules.add(Schedule.of(matchingComponents));
+		return schedules;
+	}
+}
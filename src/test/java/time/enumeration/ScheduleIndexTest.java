@@ -0,0 +1,50 @@
+package time.enumeration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ScheduleIndexTest {
+
+	@Test
+	void testIndexLookup() {
+		System.out.println("testIndexLookup - Fixture schedules against matching each of them");
+		List<Schedule> schedules = ScheduleFixtures.schedules();
+		EnumMap<MatchingComponent, Integer> matchingComponents =
+				new EnumMap<MatchingComponent, Integer>(MatchingComponent.class);
+		matchingComponents.put(MatchingComponent.MINUTE, 30);
+		matchingComponents.put(MatchingComponent.WEEKDAY, 1);
+		schedules.add(Schedule.of(matchingComponents));
+		ScheduleIndex index = new ScheduleIndex(schedules);
+		// a sweep over 2018 and 2019, plus the first matches of each schedule and the minutes after them
+		List<LocalDateTime> dateTimes = new ArrayList<LocalDateTime>();
+		for (LocalDateTime dt = LocalDateTime.of(2018, 9, 3, 0, 0); dt.getYear() < 2020; dt = dt.plusMinutes(61)) {
+			dateTimes.add(dt);
+		}
+		for (Schedule schedule : schedules) {
+			MatchCursor cursor = new MatchCursor(LocalDateTime.of(2018, 9, 3, 0, 0), MatchingDirection.FORWARD, schedule);
+			for (int k = 0; k < 3; k++) {
+				LocalDateTime dt = cursor.next();
+				if (dt == null) break;
+				dateTimes.add(dt);
+				dateTimes.add(dt.plusMinutes(1));
+			}
+		}
+		BitSet firing = new BitSet();
+		for (LocalDateTime dt : dateTimes) {
+			int count = index.lookup(dt, firing);
+			assertEquals(firing.cardinality(), count);
+			for (int i = 0; i < schedules.size(); i++) {
+				assertEquals(schedules.get(i).matches(dt), firing.get(i), schedules.get(i) + " at " + dt);
+			}
+		}
+		assertTrue(index.lookup(LocalDateTime.of(2018, 9, 10, 7, 30)).get(schedules.size() - 1));
+	}
+}
@@ -0,0 +1,143 @@
+package time.enumeration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumMap;
+
+import org.junit.jupiter.api.Test;
+
+class ScheduleTest {
+
+	@Test
+	void testContradictions() {
+		System.out.println("testContradictions - Patterns that can never match");
+		EnumMap<MatchingComponent, Integer> matchingComponents =
+				new EnumMap<MatchingComponent, Integer>(MatchingComponent.class);
+		matchingComponents.put(MatchingComponent.MONTH, 2);
+		matchingComponents.put(MatchingComponent.DAY, 30);
+		PatternAnalysis analysis = Schedule.of(matchingComponents).analyze();
+		System.out.println(analysis.getReason());
+		assertTrue(analysis.isEmpty());
+		assertNull(analysis.getMinGap());
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.QUARTER, 1);
+		matchingComponents.put(MatchingComponent.MONTH, 7);
+		assertTrue(Schedule.of(matchingComponents).analyze().isEmpty());
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.YEAR, 2019);
+		matchingComponents.put(MatchingComponent.MONTH, 2);
+		matchingComponents.put(MatchingComponent.DAY, 29);
+		assertTrue(Schedule.of(matchingComponents).analyze().isEmpty());
+		matchingComponents.put(MatchingComponent.YEAR, 2020);
+		assertFalse(Schedule.of(matchingComponents).analyze().isEmpty());
+
+		// February 29th 2020 is the only 5th Saturday of a February in that decade
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.MONTH, 2);
+		matchingComponents.put(MatchingComponent.WEEKDAY, 6);
+		matchingComponents.put(MatchingComponent.WEEKDAY_ORDINAL, 5);
+		assertFalse(Schedule.of(matchingComponents).analyze().isEmpty());
+		matchingComponents.put(MatchingComponent.YEAR, 2021);
+		assertTrue(Schedule.of(matchingComponents).analyze().isEmpty());
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.MINUTE, 30);
+		matchingComponents.put(MatchingComponent.WEEKDAY, 1);
+		assertNull(Schedule.of(matchingComponents).analyze().getReason());
+	}
+
+	@Test
+	void testOutOfRange() {
+		System.out.println("testOutOfRange - Month 13 and weekday 0");
+		EnumMap<MatchingComponent, Integer> matchingComponents =
+				new EnumMap<MatchingComponent, Integer>(MatchingComponent.class);
+		matchingComponents.put(MatchingComponent.MONTH, 13);
+		assertThrows(DateTimeException.class, () -> Schedule.of(matchingComponents));
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.WEEKDAY, 0);
+		assertThrows(DateTimeException.class, () -> Schedule.of(matchingComponents));
+	}
+
+	@Test
+	void testGaps() {
+		System.out.println("testGaps - Shortest and longest distance between matches");
+		EnumMap<MatchingComponent, Integer> matchingComponents =
+				new EnumMap<MatchingComponent, Integer>(MatchingComponent.class);
+		matchingComponents.put(MatchingComponent.MONTH, 9);
+		matchingComponents.put(MatchingComponent.DAY, 4);
+		matchingComponents.put(MatchingComponent.HOUR, 11);
+		matchingComponents.put(MatchingComponent.MINUTE, 6);
+		PatternAnalysis yearly = Schedule.of(matchingComponents).analyze();
+		assertEquals(Duration.ofDays(365), yearly.getMinGap());
+		assertEquals(Duration.ofDays(366), yearly.getMaxGap());
+		matchingComponents.put(MatchingComponent.YEAR, 2018);
+		PatternAnalysis once = Schedule.of(matchingComponents).analyze();
+		assertFalse(once.isEmpty());
+		assertNull(once.getMaxGap());
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.YEAR, 2018);
+		matchingComponents.put(MatchingComponent.MONTH, 9);
+		matchingComponents.put(MatchingComponent.MINUTE, 30);
+		matchingComponents.put(MatchingComponent.WEEKDAY, 1);
+		PatternAnalysis mondays = Schedule.of(matchingComponents).analyze();
+		assertEquals(Duration.ofHours(1), mondays.getMinGap());
+		assertEquals(Duration.ofHours(6 * 24 + 1), mondays.getMaxGap());
+
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.MONTH, 2);
+		matchingComponents.put(MatchingComponent.DAY, 29);
+		matchingComponents.put(MatchingComponent.HOUR, 0);
+		matchingComponents.put(MatchingComponent.MINUTE, 0);
+		PatternAnalysis leapDay = Schedule.of(matchingComponents).analyze();
+		assertEquals(Duration.ofDays(4 * 365 + 1), leapDay.getMinGap());
+		assertEquals(Duration.ofDays(8 * 365 + 1), leapDay.getMaxGap());
+	}
+
+	@Test
+	void testPeriodInYears() {
+		System.out.println("testPeriodInYears - Years after which the matching dates repeat");
+		EnumMap<MatchingComponent, Integer> matchingComponents =
+				new EnumMap<MatchingComponent, Integer>(MatchingComponent.class);
+		matchingComponents.put(MatchingComponent.MONTH, 9);
+		matchingComponents.put(MatchingComponent.DAY, 4);
+		assertEquals(1, Schedule.of(matchingComponents).periodInYears());
+		matchingComponents.put(MatchingComponent.WEEKDAY, 6);
+		assertEquals(400, Schedule.of(matchingComponents).periodInYears());
+		matchingComponents.put(MatchingComponent.YEAR, 2020);
+		assertEquals(0, Schedule.of(matchingComponents).periodInYears());
+
+		// 2100 is not a leap year, so February 29th does not repeat every 4 years
+		matchingComponents.clear();
+		matchingComponents.put(MatchingComponent.MONTH, 2);
+		matchingComponents.put(MatchingComponent.DAY, 29);
+		assertEquals(400, Schedule.of(matchingComponents).periodInYears());
+		matchingComponents.put(MatchingComponent.DAY, 28);
+		assertEquals(1, Schedule.of(matchingComponents).periodInYears());
+	}
+
+	@Test
+	void testEnumerateEmpty() {
+		System.out.println("testEnumerateEmpty - February 30th");
+		LocalDateTime matchingDateTime = LocalDateTime.of(LocalDate.of(2018, 9, 4), LocalTime.of(11, 06));
+		EnumMap<MatchingComponent, Integer> matchingComponents =
+				new EnumMap<MatchingComponent, Integer>(MatchingComponent.class);
+		matchingComponents.put(MatchingComponent.MONTH, 2);
+		matchingComponents.put(MatchingComponent.DAY, 30);
+		Enumerator enumerator = new Enumerator(
+				matchingDateTime, MatchingDirection.FORWARD, matchingComponents, 200,
+				(matchedCount, matchedValue) -> System.out.printf("Match#%d: %s\n", matchedCount, matchedValue));
+		assertEquals(0, enumerator.enumerate());
+	}
+}